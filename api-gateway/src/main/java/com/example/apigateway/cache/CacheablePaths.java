@@ -0,0 +1,48 @@
+package com.example.apigateway.cache;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Set;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ORIGINAL_REQUEST_URL_ATTR;
+
+/**
+ * Paths whose responses may be captured in memory (response-cache.paths)
+ */
+@Component
+public class CacheablePaths {
+
+    private final List<PathPattern> patterns;
+
+    public CacheablePaths(ResponseCacheProperties responseCacheProperties) {
+        this.patterns = responseCacheProperties.getPaths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+
+    public boolean matches(URI uri) {
+        PathContainer path = PathContainer.parsePath(uri.getRawPath());
+        return patterns.stream().anyMatch(pattern -> pattern.matches(path));
+    }
+
+    /**
+     * Request URI as received, before StripPrefix rewrote it
+     */
+    public static URI originalUri(ServerWebExchange exchange) {
+        Set<URI> originals = exchange.getAttribute(GATEWAY_ORIGINAL_REQUEST_URL_ATTR);
+        if (originals == null || originals.isEmpty()) {
+            return exchange.getRequest().getURI();
+        }
+        return originals.iterator().next();
+    }
+
+    public static String pathAndQuery(URI uri) {
+        return uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+    }
+}
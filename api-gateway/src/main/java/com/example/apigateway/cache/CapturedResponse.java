@@ -0,0 +1,41 @@
+package com.example.apigateway.cache;
+
+import com.example.apigateway.metrics.TraceIdFilter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An upstream response held in memory, to be replayed to other clients
+ */
+public record CapturedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+
+    // Per request: set by the gateway's CORS handling / TraceIdFilter / recomputed by the server
+    private static final Set<String> PER_REQUEST_HEADERS = Set.of(
+            TraceIdFilter.TRACE_ID_HEADER.toLowerCase(),
+            HttpHeaders.VARY.toLowerCase(),
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(),
+            HttpHeaders.SET_COOKIE.toLowerCase());
+
+    public static CapturedResponse of(HttpStatusCode status, HttpHeaders responseHeaders, byte[] body) {
+        HttpHeaders headers = new HttpHeaders();
+        responseHeaders.forEach((name, values) -> {
+            String lower = name.toLowerCase();
+            if (!lower.startsWith("access-control-") && !PER_REQUEST_HEADERS.contains(lower)) {
+                headers.put(name, List.copyOf(values));
+            }
+        });
+        return new CapturedResponse(status, headers, body);
+    }
+
+    public Mono<Void> writeTo(ServerHttpResponse response) {
+        response.setStatusCode(status);
+        headers.forEach((name, values) -> response.getHeaders().put(name, values));
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
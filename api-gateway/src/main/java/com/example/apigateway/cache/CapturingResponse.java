@@ -0,0 +1,68 @@
+package com.example.apigateway.cache;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.util.function.Consumer;
+
+/**
+ * Streams the upstream body to the client unchanged and keeps a copy of it
+ * When the body completes within "maxBodySize", the copy is handed to "onCaptured".
+ * Larger bodies are only passed through (the copy is dropped as soon as the limit is crossed),
+ * as are streaming responses (writeAndFlushWith) and bodiless ones (setComplete).
+ */
+public class CapturingResponse extends ServerHttpResponseDecorator {
+
+    private final long maxBodySize;
+    private final Consumer<CapturedResponse> onCaptured;
+
+    public CapturingResponse(ServerHttpResponse delegate, long maxBodySize, Consumer<CapturedResponse> onCaptured) {
+        super(delegate);
+        this.maxBodySize = maxBodySize;
+        this.onCaptured = onCaptured;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        long contentLength = getHeaders().getContentLength();
+        if (contentLength > maxBodySize) {
+            return super.writeWith(body);
+        }
+
+        Copy copy = new Copy();
+        return super.writeWith(Flux.from(body)
+                .doOnNext(copy::append)
+                .doOnComplete(() -> {
+                    if (copy.bytes != null) {
+                        onCaptured.accept(CapturedResponse.of(getStatusCode(), getHeaders(), copy.bytes.toByteArray()));
+                    }
+                }));
+    }
+
+    private class Copy {
+        // null once the body outgrew maxBodySize
+        private ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        void append(DataBuffer buffer) {
+            if (bytes == null) {
+                return;
+            }
+            int readable = buffer.readableByteCount();
+            if (bytes.size() + readable > maxBodySize) {
+                bytes = null;
+                return;
+            }
+            // Copy without consuming: the same buffer is written to the client
+            int position = buffer.readPosition();
+            byte[] chunk = new byte[readable];
+            buffer.read(chunk);
+            buffer.readPosition(position);
+            bytes.write(chunk, 0, readable);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.apigateway.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+
+/**
+ * Shared by the UserResponseCache route filter (the TTL is set per route) and SingleFlightFilter
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "response-cache")
+public class ResponseCacheProperties {
+    private long maximumSize = 50_000;
+    // Small JSON reads only: other paths (e.g. the streamed exports) are never held in memory
+    private List<String> paths = List.of("/api/v1/banking/accounts/**", "/api/v1/banking/transfers/me");
+    // Larger bodies are passed through without being kept
+    private DataSize maxBodySize = DataSize.ofKilobytes(256);
+}
@@ -0,0 +1,98 @@
+package com.example.apigateway.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collapses identical in-flight GETs (same X-User-UUID, path and query) into one upstream call
+ * Applies to response-cache.paths only, and to bodies up to response-cache.max-body-size.
+ *
+ * The first request (leader) is forwarded; requests arriving while it is in flight wait for its
+ * response and get a copy of it. If the leader produces no copy (error, cancelled, streaming,
+ * too large), each waiter is forwarded on its own.
+ * Collapsed requests: gateway_singleflight_collapsed_total
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "single-flight", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SingleFlightFilter implements GlobalFilter, Ordered {
+
+    private final ConcurrentHashMap<String, Mono<CapturedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final CacheablePaths cacheablePaths;
+    private final long maxBodySize;
+    private final Counter collapsed;
+
+    public SingleFlightFilter(CacheablePaths cacheablePaths, ResponseCacheProperties responseCacheProperties,
+                              MeterRegistry registry) {
+        this.cacheablePaths = cacheablePaths;
+        this.maxBodySize = responseCacheProperties.getMaxBodySize().toBytes();
+        this.collapsed = Counter.builder("gateway_singleflight_collapsed_total")
+                .description("GET requests answered with another in-flight request's response")
+                .register(registry);
+        Gauge.builder("gateway_singleflight_inflight", inFlight, ConcurrentHashMap::size)
+                .description("Distinct GET requests currently forwarded upstream")
+                .register(registry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        // Set by JwtAuthenticationFilter
+        String userUuid = request.getHeaders().getFirst("X-User-UUID");
+        if (userUuid == null || !HttpMethod.GET.equals(request.getMethod())) {
+            return chain.filter(exchange);
+        }
+
+        // Only the small JSON reads of the response cache (never the streamed exports)
+        URI uri = CacheablePaths.originalUri(exchange);
+        if (!cacheablePaths.matches(uri)) {
+            return chain.filter(exchange);
+        }
+
+        String key = userUuid + ":" + CacheablePaths.pathAndQuery(uri);
+
+        Sinks.One<CapturedResponse> sink = Sinks.one();
+        Mono<CapturedResponse> response = sink.asMono();
+        Mono<CapturedResponse> leader = inFlight.putIfAbsent(key, response);
+
+        if (leader != null) {
+            collapsed.increment();
+            log.debug("Collapsed into in-flight request - userUuid: {}, path: {}", userUuid, uri.getRawPath());
+            return leader.map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(shared -> shared.isPresent()
+                            ? shared.get().writeTo(exchange.getResponse())
+                            : chain.filter(exchange));
+        }
+
+        CapturingResponse capturing = new CapturingResponse(exchange.getResponse(), maxBodySize, sink::tryEmitValue);
+        return chain.filter(exchange.mutate().response(capturing).build())
+                .doFinally(signal -> {
+                    inFlight.remove(key, response);
+                    // No-op once the response was shared
+                    sink.tryEmitEmpty();
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        // After JwtAuthenticationFilter (-1) and RateLimitFilter (0)
+        return 1;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.apigateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Upstream responses per user
+ *
+ * Keys carry the user's current generation: a write by the user bumps it, which makes every
+ * response cached for that user unreachable at once (they then age out). No key scan, and a read
+ * that started before the write can only store under the old generation.
+ * Hit / miss metrics: cache_gets_total{cache="gateway_user_responses"}
+ */
+@Component
+public class UserResponseCache {
+
+    private final Cache<String, CachedResponse> responses;
+    // Starts at nanoTime, so a generation dropped and recreated never matches an older one
+    private final Cache<String, AtomicLong> generations;
+
+    public UserResponseCache(ResponseCacheProperties responseCacheProperties, MeterRegistry registry) {
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(responseCacheProperties.getMaximumSize())
+                .expireAfter(new UntilResponseExpiry())
+                .recordStats()
+                .build();
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(responseCacheProperties.getMaximumSize())
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+
+        CaffeineCacheMetrics.monitor(registry, responses, "gateway_user_responses");
+    }
+
+    /**
+     * Key of "pathAndQuery" for the user's current generation (take it before forwarding the request)
+     */
+    public String key(String userUuid, String pathAndQuery) {
+        return userUuid + ":" + generation(userUuid).get() + ":" + pathAndQuery;
+    }
+
+    public CapturedResponse get(String key) {
+        CachedResponse cached = responses.getIfPresent(key);
+        if (cached == null || cached.expiresAt() - System.nanoTime() <= 0) {
+            return null;
+        }
+        return cached.response();
+    }
+
+    public void put(String key, CapturedResponse response, Duration ttl) {
+        responses.put(key, new CachedResponse(response, System.nanoTime() + ttl.toNanos()));
+    }
+
+    /**
+     * Drops every response cached for the user
+     */
+    public void evictUser(String userUuid) {
+        generation(userUuid).incrementAndGet();
+    }
+
+    private AtomicLong generation(String userUuid) {
+        return generations.get(userUuid, k -> new AtomicLong(System.nanoTime()));
+    }
+
+    private record CachedResponse(CapturedResponse response, long expiresAt) {}
+
+    private static final class UntilResponseExpiry implements Expiry<String, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+            return Math.max(value.expiresAt() - System.nanoTime(), 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
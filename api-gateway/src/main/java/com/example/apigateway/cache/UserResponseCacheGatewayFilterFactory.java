@@ -0,0 +1,92 @@
+package com.example.apigateway.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Short-TTL cache of a user's GET responses (route filter "UserResponseCache")
+ *
+ * Keyed by X-User-UUID + path + query. Only 200 responses to response-cache.paths are cached.
+ * Any other method from the same user (POST /transfers, opening an account, ...) evicts all of
+ * that user's entries, both when it passes through and when its response comes back.
+ * Other users touched by a write (e.g. a transfer's recipient) may see the previous response for
+ * up to "ttl".
+ */
+@Slf4j
+@Component
+public class UserResponseCacheGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<UserResponseCacheGatewayFilterFactory.Config> {
+
+    private final UserResponseCache userResponseCache;
+    private final CacheablePaths cacheablePaths;
+    private final long maxBodySize;
+
+    public UserResponseCacheGatewayFilterFactory(UserResponseCache userResponseCache, CacheablePaths cacheablePaths,
+                                                 ResponseCacheProperties responseCacheProperties) {
+        super(Config.class);
+        this.userResponseCache = userResponseCache;
+        this.cacheablePaths = cacheablePaths;
+        this.maxBodySize = responseCacheProperties.getMaxBodySize().toBytes();
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("ttl");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            // Set by JwtAuthenticationFilter
+            String userUuid = request.getHeaders().getFirst("X-User-UUID");
+            if (userUuid == null || config.getTtl().isZero() || HttpMethod.OPTIONS.equals(request.getMethod())) {
+                return chain.filter(exchange);
+            }
+
+            if (!HttpMethod.GET.equals(request.getMethod())) {
+                userResponseCache.evictUser(userUuid);
+                return chain.filter(exchange)
+                        .doFinally(signal -> userResponseCache.evictUser(userUuid));
+            }
+
+            URI uri = CacheablePaths.originalUri(exchange);
+            if (!cacheablePaths.matches(uri)) {
+                return chain.filter(exchange);
+            }
+
+            String key = userResponseCache.key(userUuid, CacheablePaths.pathAndQuery(uri));
+            CapturedResponse cached = userResponseCache.get(key);
+            if (cached != null) {
+                log.debug("Response cache hit - userUuid: {}, path: {}", userUuid, uri.getRawPath());
+                return cached.writeTo(exchange.getResponse());
+            }
+
+            ServerHttpResponse caching = new CapturingResponse(exchange.getResponse(), maxBodySize, response -> {
+                if (HttpStatus.OK.equals(response.status())) {
+                    userResponseCache.put(key, response, config.getTtl());
+                }
+            });
+            return chain.filter(exchange.mutate().response(caching).build());
+        };
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        // 0 disables the cache
+        private Duration ttl = Duration.ofSeconds(2);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.apigateway.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * Per-route / per-status latency split between the gateway and the upstream service
+ *
+ * gateway_request_duration:  whole request at the gateway (every filter + response write)
+ * gateway_upstream_duration: upstream call (UpstreamTimingFilter), only for forwarded requests
+ * gateway_overhead_duration: the difference, i.e. time added by the gateway
+ * Requests answered by the gateway itself (401, 429, cached) only have gateway_request_duration.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestTimingFilter implements GlobalFilter, Ordered {
+
+    private final MeterRegistry registry;
+    // Registered once per (route, status), not looked up per request
+    private final Map<RouteStatus, Timers> timers = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> record(exchange, signal, System.nanoTime() - start));
+    }
+
+    @Override
+    public int getOrder() {
+        // Right after TraceIdFilter
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+
+    private void record(ServerWebExchange exchange, SignalType signal, long totalNanos) {
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        String routeId = route == null ? "none" : route.getId();
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        String statusTag = signal == SignalType.CANCEL ? "cancelled"
+                : status == null ? "none" : Integer.toString(status.value());
+        Timers routeTimers = timers.computeIfAbsent(new RouteStatus(routeId, statusTag), this::register);
+
+        routeTimers.total().record(totalNanos, TimeUnit.NANOSECONDS);
+
+        Long upstreamNanos = exchange.getAttribute(UpstreamTimingFilter.UPSTREAM_NANOS_ATTR);
+        if (upstreamNanos != null) {
+            routeTimers.upstream().record(upstreamNanos, TimeUnit.NANOSECONDS);
+            routeTimers.overhead().record(Math.max(totalNanos - upstreamNanos, 0), TimeUnit.NANOSECONDS);
+        }
+
+        log.debug("Request completed - traceId: {}, route: {}, status: {}, total: {}ms, upstream: {}ms",
+                exchange.getAttribute(TraceIdFilter.TRACE_ID_ATTR), routeId, statusTag,
+                TimeUnit.NANOSECONDS.toMillis(totalNanos),
+                upstreamNanos == null ? "-" : TimeUnit.NANOSECONDS.toMillis(upstreamNanos));
+    }
+
+    private Timers register(RouteStatus key) {
+        Tags tags = Tags.of("route", key.route(), "status", key.status());
+        return new Timers(
+                timer("gateway_request_duration", tags),
+                timer("gateway_upstream_duration", tags),
+                timer("gateway_overhead_duration", tags));
+    }
+
+    private Timer timer(String name, Tags tags) {
+        return Timer.builder(name)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private record RouteStatus(String route, String status) {}
+
+    private record Timers(Timer total, Timer upstream, Timer overhead) {}
+}
@@ -0,0 +1,48 @@
+package com.example.apigateway.metrics;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Gives every request an X-Trace-Id, forwarded upstream and returned to the client
+ * A well-formed id sent by the client is kept, so a trace can start in the frontend.
+ */
+@Component
+public class TraceIdFilter implements GlobalFilter, Ordered {
+
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+    public static final String TRACE_ID_ATTR = TraceIdFilter.class.getName() + ".traceId";
+
+    // Logged by the services: no separators or control characters
+    private static final Pattern VALID_TRACE_ID = Pattern.compile("[A-Za-z0-9-]{1,64}");
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String traceId = exchange.getRequest().getHeaders().getFirst(TRACE_ID_HEADER);
+        if (traceId == null || !VALID_TRACE_ID.matcher(traceId).matches()) {
+            traceId = UUID.randomUUID().toString().replace("-", "");
+        }
+
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .header(TRACE_ID_HEADER, traceId)
+                .build();
+        exchange.getResponse().getHeaders().set(TRACE_ID_HEADER, traceId);
+        exchange.getAttributes().put(TRACE_ID_ATTR, traceId);
+
+        return chain.filter(exchange.mutate().request(request).build());
+    }
+
+    @Override
+    public int getOrder() {
+        // Before everything, so that rejected (401 / 429) responses carry it too
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
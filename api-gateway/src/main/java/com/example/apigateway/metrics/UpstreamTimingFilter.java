@@ -0,0 +1,33 @@
+package com.example.apigateway.metrics;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Measures the upstream call: from just before NettyRoutingFilter sends the request
+ * until the upstream response headers arrive (connection acquisition included)
+ * Read by RequestTimingFilter, which records it.
+ */
+@Component
+public class UpstreamTimingFilter implements GlobalFilter, Ordered {
+
+    public static final String UPSTREAM_NANOS_ATTR = UpstreamTimingFilter.class.getName() + ".upstreamNanos";
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        // doOnTerminate (not doFinally): must be set before RequestTimingFilter sees completion
+        return chain.filter(exchange)
+                .doOnTerminate(() -> exchange.getAttributes().put(UPSTREAM_NANOS_ATTR, System.nanoTime() - start));
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyRoutingFilter.ORDER - 1;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.apigateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token buckets of this gateway instance
+ *
+ * Each bucket is a single AtomicLong holding its "theoretical arrival time" (GCRA):
+ * the instant at which the bucket would be full again. Taking a token pushes it forward by one
+ * refill interval with a CAS, and a request is rejected when that would put it more than
+ * "capacity" intervals ahead of now. No lock and no refill timer.
+ * Idle buckets are dropped (an idle bucket is a full bucket).
+ */
+@Component
+@ConditionalOnProperty(prefix = "rate-limit", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTokenBucketStore implements TokenBucketStore {
+
+    private static final Duration IDLE_EXPIRY = Duration.ofMinutes(10);
+    private static final long MAXIMUM_BUCKETS = 1_000_000;
+
+    private final Cache<String, AtomicLong> buckets = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_BUCKETS)
+            .expireAfterAccess(IDLE_EXPIRY)
+            .build();
+    private final LongSupplier nanoClock;
+
+    public InMemoryTokenBucketStore() {
+        this(System::nanoTime);
+    }
+
+    InMemoryTokenBucketStore(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public Mono<Duration> tryConsume(String key, RateLimitProperties.Limit limit) {
+        return Mono.just(Duration.ofNanos(consume(key, limit)));
+    }
+
+    long consume(String key, RateLimitProperties.Limit limit) {
+        long interval = (long) (1_000_000_000L / limit.getRefillPerSecond());
+        long burst = interval * limit.getCapacity();
+        AtomicLong arrival = buckets.get(key, k -> new AtomicLong(nanoClock.getAsLong()));
+
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = arrival.get();
+            long next = Math.max(current, now) + interval;
+            long wait = next - now - burst;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
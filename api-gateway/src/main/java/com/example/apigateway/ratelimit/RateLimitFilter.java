@@ -0,0 +1,143 @@
+package com.example.apigateway.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Per-client token bucket rate limiting
+ * Runs after JwtAuthenticationFilter, so banking requests are limited per verified X-User-UUID
+ * and auth requests (no token yet) per client IP.
+ *
+ * transfer: POST /api/v1/banking/transfers/** (each one takes account row locks in core-banking)
+ * read:     every other /api/v1/banking/** request
+ * auth:     /api/v1/auth/**
+ * Rejections: 429 + Retry-After, counted in gateway_rate_limit_rejected_total{policy}
+ */
+@Slf4j
+@Component
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    private static final String BANKING_PATH = "/api/v1/banking/";
+    private static final String TRANSFER_PATH = "/api/v1/banking/transfers";
+    private static final String AUTH_PATH = "/api/v1/auth/";
+
+    private final RateLimitProperties rateLimitProperties;
+    private final TokenBucketStore tokenBucketStore;
+    private final Map<String, Counter> rejected;
+
+    public RateLimitFilter(RateLimitProperties rateLimitProperties, TokenBucketStore tokenBucketStore,
+                           MeterRegistry registry) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.tokenBucketStore = tokenBucketStore;
+        this.rejected = Map.of(
+                "transfer", rejectedCounter(registry, "transfer"),
+                "read", rejectedCounter(registry, "read"),
+                "auth", rejectedCounter(registry, "auth"));
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!rateLimitProperties.isEnabled() || HttpMethod.OPTIONS.equals(request.getMethod())) {
+            return chain.filter(exchange);
+        }
+
+        String path = request.getURI().getPath();
+        String policy;
+        String client;
+        RateLimitProperties.Limit limit;
+        if (path.startsWith(AUTH_PATH)) {
+            policy = "auth";
+            client = clientIp(request);
+            limit = rateLimitProperties.getAuth();
+        } else if (path.startsWith(BANKING_PATH)) {
+            // Set (overwritten) by JwtAuthenticationFilter, so it cannot be spoofed here
+            client = request.getHeaders().getFirst("X-User-UUID");
+            if (isTransfer(request, path)) {
+                policy = "transfer";
+                limit = rateLimitProperties.getTransfer();
+            } else {
+                policy = "read";
+                limit = rateLimitProperties.getRead();
+            }
+        } else {
+            return chain.filter(exchange);
+        }
+
+        if (client == null) {
+            return chain.filter(exchange);
+        }
+
+        return tokenBucketStore.tryConsume(policy + ":" + client, limit)
+                .flatMap(wait -> {
+                    if (wait.isZero()) {
+                        return chain.filter(exchange);
+                    }
+                    rejected.get(policy).increment();
+                    log.debug("Rate limited - policy: {}, client: {}, retry after: {}", policy, client, wait);
+                    return tooManyRequestsResponse(exchange, wait);
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        // After JwtAuthenticationFilter (-1)
+        return 0;
+    }
+
+    private boolean isTransfer(ServerHttpRequest request, String path) {
+        return HttpMethod.POST.equals(request.getMethod())
+                && (path.equals(TRANSFER_PATH) || path.startsWith(TRANSFER_PATH + "/"));
+    }
+
+    private String clientIp(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null) {
+            return null;
+        }
+        return remoteAddress.getAddress() != null
+                ? remoteAddress.getAddress().getHostAddress()
+                : remoteAddress.getHostString();
+    }
+
+    private Mono<Void> tooManyRequestsResponse(ServerWebExchange exchange, Duration wait) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        // Whole seconds, rounded up
+        long retryAfter = Math.max(1, (wait.toMillis() + 999) / 1000);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+
+        String body = "{\"error\":\"Too Many Requests\",\"message\":\"Rate limit exceeded, retry after "
+                + retryAfter + "s\"}";
+        DataBuffer buffer = response.bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8));
+
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    private static Counter rejectedCounter(MeterRegistry registry, String policy) {
+        return Counter.builder("gateway_rate_limit_rejected_total")
+                .description("Requests rejected with 429 by the rate limiter")
+                .tag("policy", policy)
+                .register(registry);
+    }
+}
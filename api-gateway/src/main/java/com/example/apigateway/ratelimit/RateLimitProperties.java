@@ -0,0 +1,44 @@
+package com.example.apigateway.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    // memory: per gateway instance / redis: shared by every gateway instance
+    private Store store = Store.MEMORY;
+    // POST /api/v1/banking/transfers/** per userUuid
+    private Limit transfer = new Limit(10, 2);
+    // Other /api/v1/banking/** requests per userUuid
+    private Limit read = new Limit(60, 20);
+    // /api/v1/auth/** per client IP (no token yet)
+    private Limit auth = new Limit(10, 1);
+
+    public enum Store {
+        MEMORY, REDIS
+    }
+
+    /**
+     * Token bucket: up to "capacity" requests at once, refilled at "refillPerSecond"
+     */
+    @Getter
+    @Setter
+    public static class Limit {
+        private int capacity;
+        private double refillPerSecond;
+
+        public Limit() {
+        }
+
+        public Limit(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+}
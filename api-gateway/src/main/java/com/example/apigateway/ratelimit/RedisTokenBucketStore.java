@@ -0,0 +1,65 @@
+package com.example.apigateway.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Token buckets shared by every gateway instance
+ *
+ * Same GCRA as {@link InMemoryTokenBucketStore}, evaluated atomically by a Lua script on Redis' clock
+ * (one round trip, no clock skew between gateways). Keys expire once their bucket is full again.
+ * If Redis is unreachable the request is let through: the limiter must not take the gateway down.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "rate-limit", name = "store", havingValue = "redis")
+public class RedisTokenBucketStore implements TokenBucketStore {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+
+    // ARGV[1] = refill interval (µs), ARGV[2] = burst (µs) -> 0 or µs until the next token
+    private static final RedisScript<Long> CONSUME = RedisScript.of("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local interval = tonumber(ARGV[1])
+            local burst = tonumber(ARGV[2])
+            local arrival = tonumber(redis.call('GET', KEYS[1]) or now)
+            local next = math.max(arrival, now) + interval
+            local wait = next - now - burst
+            if wait > 0 then
+                return math.ceil(wait)
+            end
+            redis.call('SET', KEYS[1], string.format('%d', next), 'PX', math.max(1, math.ceil((next - now) / 1000)))
+            return 0
+            """, Long.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    public RedisTokenBucketStore(ReactiveStringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Mono<Duration> tryConsume(String key, RateLimitProperties.Limit limit) {
+        long interval = (long) (1_000_000 / limit.getRefillPerSecond());
+        long burst = interval * limit.getCapacity();
+
+        return redisTemplate.execute(CONSUME, List.of(KEY_PREFIX + key),
+                        List.of(Long.toString(interval), Long.toString(burst)))
+                .next()
+                .map(micros -> Duration.of(micros, ChronoUnit.MICROS))
+                .defaultIfEmpty(Duration.ZERO)
+                .onErrorResume(e -> {
+                    log.warn("Rate limit store unavailable, letting the request through: {}", e.getMessage());
+                    return Mono.just(Duration.ZERO);
+                });
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.apigateway.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Token buckets keyed by policy + client
+ */
+public interface TokenBucketStore {
+
+    /**
+     * Takes one token from the bucket of "key"
+     *
+     * @return Duration.ZERO if a token was taken, otherwise how long until the next token is available
+     */
+    Mono<Duration> tryConsume(String key, RateLimitProperties.Limit limit);
+}
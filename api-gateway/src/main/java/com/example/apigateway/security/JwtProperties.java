@@ -11,4 +11,14 @@ import org.springframework.stereotype.Component;
 @ConfigurationProperties(prefix = "jwt")
 public class JwtProperties {
     private String secret;
+    private Cache cache = new Cache();
+
+    /**
+     * Verified tokens (SHA-256 of the token -> userUuid), each kept until the token expires
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+        private long maximumSize = 100_000;
+    }
 }
@@ -0,0 +1,84 @@
+package com.example.apigateway.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tokens whose signature has already been verified
+ *
+ * Keyed by the SHA-256 of the token (the bearer token itself is not kept in memory).
+ * Each entry expires exactly when its token does, so a cached token is never accepted after "exp".
+ * Hit / miss metrics: cache_gets_total{cache="jwt_verified_tokens"}
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, VerifiedToken> tokens;
+
+    public VerifiedTokenCache(JwtProperties jwtProperties, MeterRegistry registry) {
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getCache().getMaximumSize())
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(registry, tokens, "jwt_verified_tokens");
+    }
+
+    /**
+     * @return userUuid of a verified, unexpired token, or null
+     */
+    public String getUserUuid(String token) {
+        VerifiedToken verified = tokens.getIfPresent(digest(token));
+        // Caffeine expiry has timer granularity; re-check so that "exp" is exact
+        if (verified == null || !verified.expiresAt().isAfter(Instant.now())) {
+            return null;
+        }
+        return verified.userUuid();
+    }
+
+    public void put(String token, String userUuid, Instant expiresAt) {
+        tokens.put(digest(token), new VerifiedToken(userUuid, expiresAt));
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record VerifiedToken(String userUuid, Instant expiresAt) {}
+
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long millis = value.expiresAt().toEpochMilli() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(millis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
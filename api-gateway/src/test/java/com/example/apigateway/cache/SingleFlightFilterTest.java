@@ -0,0 +1,138 @@
+package com.example.apigateway.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ResponseCacheProperties properties = new ResponseCacheProperties();
+    private final SingleFlightFilter filter;
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final Sinks.Empty<Void> upstreamDone = Sinks.empty();
+
+    SingleFlightFilterTest() {
+        properties.setMaxBodySize(DataSize.ofBytes(64));
+        filter = new SingleFlightFilter(new CacheablePaths(properties), properties, registry);
+    }
+
+    @Test
+    void identicalConcurrentGets_shareOneUpstreamCall() {
+        List<MockServerWebExchange> exchanges = List.of(
+                exchange("/api/v1/banking/accounts/me", "user-a"),
+                exchange("/api/v1/banking/accounts/me", "user-a"),
+                exchange("/api/v1/banking/accounts/me", "user-a"));
+        List<Mono<Void>> results = exchanges.stream()
+                .map(exchange -> filter.filter(exchange, slowUpstream()).cache())
+                .toList();
+        results.forEach(Mono::subscribe);
+
+        upstreamDone.tryEmitEmpty();
+        results.forEach(Mono::block);
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(exchanges).allSatisfy(exchange -> {
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo("{\"call\":1}");
+        });
+        assertThat(registry.get("gateway_singleflight_collapsed_total").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void differentUsersOrQueries_areNotCollapsed() {
+        List<Mono<Void>> results = List.of(
+                filter.filter(exchange("/api/v1/banking/transfers/me", "user-a"), slowUpstream()).cache(),
+                filter.filter(exchange("/api/v1/banking/transfers/me?page=1", "user-a"), slowUpstream()).cache(),
+                filter.filter(exchange("/api/v1/banking/transfers/me", "user-b"), slowUpstream()).cache());
+        results.forEach(Mono::subscribe);
+
+        upstreamDone.tryEmitEmpty();
+        results.forEach(Mono::block);
+
+        assertThat(upstreamCalls).hasValue(3);
+    }
+
+    @Test
+    void waiters_fallBackToTheirOwnCall_whenTheLeaderFails() {
+        Sinks.Empty<Void> leaderFails = Sinks.empty();
+        Mono<Void> leader = filter.filter(exchange("/api/v1/banking/accounts/me", "user-a"),
+                e -> leaderFails.asMono().then(Mono.error(new IllegalStateException("upstream down")))).cache();
+        leader.subscribe(null, error -> {});
+        MockServerWebExchange waiter = exchange("/api/v1/banking/accounts/me", "user-a");
+        Mono<Void> waiting = filter.filter(waiter, slowUpstream()).cache();
+        waiting.subscribe();
+
+        leaderFails.tryEmitEmpty();
+        upstreamDone.tryEmitEmpty();
+        waiting.block();
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(waiter.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void pathsOutsideTheAllowList_areNeverCollapsed() {
+        List<Mono<Void>> results = List.of(
+                filter.filter(exchange("/api/v1/banking/transfers/me/export", "user-a"), slowUpstream()).cache(),
+                filter.filter(exchange("/api/v1/banking/transfers/me/export", "user-a"), slowUpstream()).cache());
+        results.forEach(Mono::subscribe);
+
+        upstreamDone.tryEmitEmpty();
+        results.forEach(Mono::block);
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(registry.get("gateway_singleflight_collapsed_total").counter().count()).isZero();
+    }
+
+    @Test
+    void bodyOverTheLimit_isStreamedThrough_andWaitersAreForwarded() {
+        GatewayFilterChain largeUpstream = exchange -> upstreamDone.asMono().then(Mono.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            return response.writeWith(Flux.range(0, 4).map(i ->
+                    response.bufferFactory().wrap("0123456789abcdef0123456789".getBytes(StandardCharsets.UTF_8))));
+        }));
+        MockServerWebExchange leader = exchange("/api/v1/banking/accounts/me", "user-a");
+        List<Mono<Void>> results = List.of(
+                filter.filter(leader, largeUpstream).cache(),
+                filter.filter(exchange("/api/v1/banking/accounts/me", "user-a"), largeUpstream).cache());
+        results.forEach(Mono::subscribe);
+
+        upstreamDone.tryEmitEmpty();
+        results.forEach(Mono::block);
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(leader.getResponse().getBodyAsString().block()).hasSize(4 * 26);
+    }
+
+    private MockServerWebExchange exchange(String uri, String userUuid) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(uri).header("X-User-UUID", userUuid).build());
+    }
+
+    // Responds once the test completes "upstreamDone", so that requests overlap
+    private GatewayFilterChain slowUpstream() {
+        return exchange -> upstreamDone.asMono().then(Mono.defer(() -> {
+            int call = upstreamCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            byte[] body = ("{\"call\":" + call + "}").getBytes(StandardCharsets.UTF_8);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        }));
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.apigateway.cache;
+
+import com.example.apigateway.metrics.TraceIdFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserResponseCacheGatewayFilterFactoryTest {
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final ResponseCacheProperties properties = new ResponseCacheProperties();
+    private final GatewayFilter filter = new UserResponseCacheGatewayFilterFactory(
+            new UserResponseCache(properties, new SimpleMeterRegistry()), new CacheablePaths(properties), properties)
+            .apply(new UserResponseCacheGatewayFilterFactory.Config());
+
+    @Test
+    void repeatedGet_isServedFromCache() {
+        MockServerWebExchange first = send(get("/api/v1/banking/accounts/me", "user-a"));
+        MockServerWebExchange second = send(get("/api/v1/banking/accounts/me", "user-a"));
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(second.getResponse().getBodyAsString().block())
+                .isEqualTo(first.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void cacheHit_keepsItsOwnTraceId() {
+        send(get("/api/v1/banking/accounts/me", "user-a"), "trace-1");
+        MockServerWebExchange hit = send(get("/api/v1/banking/accounts/me", "user-a"), "trace-2");
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(hit.getResponse().getHeaders().get(TraceIdFilter.TRACE_ID_HEADER)).containsExactly("trace-2");
+    }
+
+    @Test
+    void entriesAreKeyedByUserAndPath() {
+        send(get("/api/v1/banking/accounts/me", "user-a"));
+        send(get("/api/v1/banking/accounts/me", "user-b"));
+        send(get("/api/v1/banking/transfers/me", "user-a"));
+        send(get("/api/v1/banking/transfers/me?page=1", "user-a"));
+
+        assertThat(upstreamCalls).hasValue(4);
+    }
+
+    @Test
+    void userTransfer_evictsThatUsersEntries() {
+        send(get("/api/v1/banking/accounts/me", "user-a"));
+        send(get("/api/v1/banking/accounts/me", "user-b"));
+
+        send(MockServerHttpRequest.post("/api/v1/banking/transfers").header("X-User-UUID", "user-a").build());
+        send(get("/api/v1/banking/accounts/me", "user-a"));
+        send(get("/api/v1/banking/accounts/me", "user-b"));
+
+        assertThat(upstreamCalls).hasValue(4);
+    }
+
+    @Test
+    void otherPathsAndErrors_areNotCached() {
+        send(get("/api/v1/banking/transfers/1", "user-a"));
+        send(get("/api/v1/banking/transfers/1", "user-a"));
+        send(get("/api/v1/banking/accounts/missing", "user-a"));
+        send(get("/api/v1/banking/accounts/missing", "user-a"));
+
+        assertThat(upstreamCalls).hasValue(4);
+    }
+
+    private MockServerHttpRequest get(String uri, String userUuid) {
+        return MockServerHttpRequest.get(uri).header("X-User-UUID", userUuid).build();
+    }
+
+    private MockServerWebExchange send(MockServerHttpRequest request) {
+        return send(request, "trace");
+    }
+
+    private MockServerWebExchange send(MockServerHttpRequest request, String traceId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        // As set by TraceIdFilter before the chain runs
+        exchange.getResponse().getHeaders().set(TraceIdFilter.TRACE_ID_HEADER, traceId);
+        filter.filter(exchange, e -> {
+            int call = upstreamCalls.incrementAndGet();
+            ServerHttpResponse response = e.getResponse();
+            response.setStatusCode(e.getRequest().getPath().value().endsWith("missing")
+                    ? HttpStatus.NOT_FOUND : HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            byte[] body = ("{\"call\":" + call + "}").getBytes(StandardCharsets.UTF_8);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        }).block();
+        return exchange;
+    }
+}
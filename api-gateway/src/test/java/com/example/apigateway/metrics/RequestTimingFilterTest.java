@@ -0,0 +1,101 @@
+package com.example.apigateway.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+class RequestTimingFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RequestTimingFilter requestTimingFilter = new RequestTimingFilter(registry);
+    private final UpstreamTimingFilter upstreamTimingFilter = new UpstreamTimingFilter();
+    private final TraceIdFilter traceIdFilter = new TraceIdFilter();
+
+    @Test
+    void forwardedRequest_recordsTotalUpstreamAndOverheadPerRouteAndStatus() {
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/v1/banking/accounts/me").build());
+
+        // Synchronous delays: the timers are recorded before block() returns
+        requestTimingFilter.filter(exchange, e -> sleep(20)
+                .then(Mono.defer(() -> upstreamTimingFilter.filter(e, upstream -> sleep(50)
+                        .then(Mono.fromRunnable(() -> upstream.getResponse().setStatusCode(HttpStatus.OK)))))))
+                .block();
+
+        double total = registry.get("gateway_request_duration").tag("route", "core-banking").tag("status", "200")
+                .timer().totalTime(TimeUnit.MILLISECONDS);
+        double upstream = registry.get("gateway_upstream_duration").tag("route", "core-banking").tag("status", "200")
+                .timer().totalTime(TimeUnit.MILLISECONDS);
+        double overhead = registry.get("gateway_overhead_duration").tag("route", "core-banking").tag("status", "200")
+                .timer().totalTime(TimeUnit.MILLISECONDS);
+
+        assertThat(upstream).isGreaterThanOrEqualTo(50);
+        assertThat(overhead).isGreaterThanOrEqualTo(20);
+        assertThat(total).isGreaterThanOrEqualTo(upstream + overhead - 1);
+    }
+
+    @Test
+    void requestAnsweredByTheGateway_hasNoUpstreamTime() {
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/v1/banking/accounts/me").build());
+
+        requestTimingFilter.filter(exchange, e -> {
+            e.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+            return Mono.empty();
+        }).block();
+
+        assertThat(registry.get("gateway_request_duration").tag("status", "401").timer().count()).isEqualTo(1);
+        assertThat(registry.get("gateway_upstream_duration").tag("status", "401").timer().count()).isZero();
+    }
+
+    @Test
+    void traceId_isGeneratedOrKept_andForwardedUpstream() {
+        AtomicReference<String> forwarded = new AtomicReference<>();
+        GatewayFilterChain upstream = e -> {
+            forwarded.set(e.getRequest().getHeaders().getFirst(TraceIdFilter.TRACE_ID_HEADER));
+            return Mono.empty();
+        };
+
+        MockServerWebExchange generated = MockServerWebExchange.from(MockServerHttpRequest.get("/").build());
+        traceIdFilter.filter(generated, upstream).block();
+        assertThat(forwarded.get()).matches("[0-9a-f]{32}");
+        assertThat(generated.getResponse().getHeaders().getFirst(TraceIdFilter.TRACE_ID_HEADER)).isEqualTo(forwarded.get());
+
+        traceIdFilter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/")
+                .header(TraceIdFilter.TRACE_ID_HEADER, "frontend-trace-1").build()), upstream).block();
+        assertThat(forwarded.get()).isEqualTo("frontend-trace-1");
+
+        traceIdFilter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/")
+                .header(TraceIdFilter.TRACE_ID_HEADER, "bad\nid").build()), upstream).block();
+        assertThat(forwarded.get()).matches("[0-9a-f]{32}");
+    }
+
+    private Mono<Void> sleep(long millis) {
+        return Mono.fromRunnable(() -> {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    private MockServerWebExchange exchange(MockServerHttpRequest request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(GATEWAY_ROUTE_ATTR, Route.async()
+                .id("core-banking")
+                .uri("http://localhost:8080")
+                .predicate(e -> true)
+                .build());
+        return exchange;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.apigateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryTokenBucketStoreTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(42 * SECOND);
+    private final InMemoryTokenBucketStore store = new InMemoryTokenBucketStore(clock::get);
+    private final RateLimitProperties.Limit limit = new RateLimitProperties.Limit(3, 1);
+
+    @Test
+    void burstUpToCapacity_thenRetryAfterOneRefill() {
+        assertThat(store.consume("user-a", limit)).isZero();
+        assertThat(store.consume("user-a", limit)).isZero();
+        assertThat(store.consume("user-a", limit)).isZero();
+
+        assertThat(store.consume("user-a", limit)).isEqualTo(SECOND);
+
+        clock.addAndGet(SECOND / 2);
+        assertThat(store.consume("user-a", limit)).isEqualTo(SECOND / 2);
+
+        clock.addAndGet(SECOND / 2);
+        assertThat(store.consume("user-a", limit)).isZero();
+        assertThat(store.consume("user-a", limit)).isPositive();
+    }
+
+    @Test
+    void bucketsAreIndependentPerKey() {
+        for (int i = 0; i < 3; i++) {
+            store.consume("user-a", limit);
+        }
+
+        assertThat(store.consume("user-a", limit)).isPositive();
+        assertThat(store.consume("user-b", limit)).isZero();
+    }
+
+    @Test
+    void idleBucketRefillsOnlyUpToCapacity() {
+        clock.addAndGet(3600 * SECOND);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(store.consume("user-a", limit)).isZero();
+        }
+        assertThat(store.consume("user-a", limit)).isPositive();
+    }
+
+    @Test
+    void concurrentCallers_neverExceedCapacity() throws InterruptedException {
+        RateLimitProperties.Limit burst = new RateLimitProperties.Limit(100, 0.001);
+        AtomicInteger granted = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            executor.submit(() -> {
+                if (store.consume("user-a", burst) == 0) {
+                    granted.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(granted).hasValue(100);
+    }
+}
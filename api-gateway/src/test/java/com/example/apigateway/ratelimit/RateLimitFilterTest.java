@@ -0,0 +1,65 @@
+package com.example.apigateway.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger forwarded = new AtomicInteger();
+    private final RateLimitFilter filter;
+
+    RateLimitFilterTest() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setTransfer(new RateLimitProperties.Limit(2, 0.001));
+        properties.setRead(new RateLimitProperties.Limit(5, 0.001));
+        filter = new RateLimitFilter(properties, new InMemoryTokenBucketStore(), registry);
+    }
+
+    @Test
+    void transfersBeyondTheBucket_areRejectedWith429AndRetryAfter() {
+        assertThat(send(transfer("user-a")).getResponse().getStatusCode()).isNull();
+        assertThat(send(transfer("user-a")).getResponse().getStatusCode()).isNull();
+
+        MockServerWebExchange rejected = send(transfer("user-a"));
+
+        assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isNotBlank();
+        assertThat(forwarded).hasValue(2);
+        assertThat(registry.get("gateway_rate_limit_rejected_total").tag("policy", "transfer").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void readsAndOtherUsers_haveTheirOwnBuckets() {
+        send(transfer("user-a"));
+        send(transfer("user-a"));
+
+        send(MockServerHttpRequest.get("/api/v1/banking/transfers").header("X-User-UUID", "user-a").build());
+        send(transfer("user-b"));
+
+        assertThat(forwarded).hasValue(4);
+    }
+
+    private MockServerHttpRequest transfer(String userUuid) {
+        return MockServerHttpRequest.post("/api/v1/banking/transfers").header("X-User-UUID", userUuid).build();
+    }
+
+    private MockServerWebExchange send(MockServerHttpRequest request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        filter.filter(exchange, e -> {
+            forwarded.incrementAndGet();
+            return Mono.empty();
+        }).block();
+        return exchange;
+    }
+}
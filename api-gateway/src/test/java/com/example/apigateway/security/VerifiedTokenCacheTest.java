@@ -0,0 +1,45 @@
+package com.example.apigateway.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(new JwtProperties(), registry);
+
+    @Test
+    void verifiedToken_isServedUntilItExpires() throws InterruptedException {
+        cache.put("token-a", "user-a", Instant.now().plusMillis(300));
+
+        assertThat(cache.getUserUuid("token-a")).isEqualTo("user-a");
+        assertThat(cache.getUserUuid("token-b")).isNull();
+
+        Thread.sleep(400);
+        assertThat(cache.getUserUuid("token-a")).isNull();
+    }
+
+    @Test
+    void alreadyExpiredToken_isNeverServed() {
+        cache.put("token-a", "user-a", Instant.now().minusSeconds(1));
+
+        assertThat(cache.getUserUuid("token-a")).isNull();
+    }
+
+    @Test
+    void hitsAndMisses_arePublished() {
+        cache.put("token-a", "user-a", Instant.now().plusSeconds(60));
+        cache.getUserUuid("token-a");
+        cache.getUserUuid("token-a");
+        cache.getUserUuid("token-b");
+
+        assertThat(registry.get("cache.gets").tag("cache", "jwt_verified_tokens").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("cache.gets").tag("cache", "jwt_verified_tokens").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+    }
+}
@@ -13,11 +13,11 @@ const Dashboard = () => {
             try {
                 const [accountResponse, transferResponse] = await Promise.all([
                     bankingApi.get('/accounts/me'),
-                    bankingApi.get('/transfers/me'),
+                    bankingApi.get('/transfers/me', { params: { size: 10 } }),
                 ]);
 
                 setAccountInfo(accountResponse.data);
-                setTransfers(transferResponse.data?.data || []);
+                setTransfers(transferResponse.data?.data?.transfers || []);
 
             } catch (error) {
                 console.error("Failed to load data:", error);
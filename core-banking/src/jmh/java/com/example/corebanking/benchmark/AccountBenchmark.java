@@ -0,0 +1,75 @@
+package com.example.corebanking.benchmark;
+
+import com.example.corebanking.account.domain.Account;
+import com.example.corebanking.common.money.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Balance arithmetic of Account.withdraw / deposit (Money, long minor units)
+ * bigDecimal* : the same checks and arithmetic on BigDecimal, as the baseline
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccountBenchmark {
+
+    private static final Money AMOUNT = Money.parse("12345.67");
+    private static final BigDecimal DECIMAL_AMOUNT = new BigDecimal("12345.67");
+
+    private Account sender;
+    private Account recipient;
+    private BigDecimal senderBalance;
+    private BigDecimal recipientBalance;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        // Large enough not to run dry during an iteration
+        sender = Account.builder()
+                .userUuid("bench-sender")
+                .accountNumber("1111")
+                .balance(Money.of(1_000_000_000_000_000L))
+                .build();
+        recipient = Account.builder()
+                .userUuid("bench-recipient")
+                .accountNumber("2222")
+                .balance(Money.ZERO)
+                .build();
+        senderBalance = new BigDecimal("1000000000000000000.00");
+        recipientBalance = BigDecimal.ZERO;
+    }
+
+    @Benchmark
+    public Money withdraw() {
+        sender.withdraw(AMOUNT);
+        return sender.getBalance();
+    }
+
+    @Benchmark
+    public Money deposit() {
+        recipient.deposit(AMOUNT);
+        return recipient.getBalance();
+    }
+
+    @Benchmark
+    public Money withdrawAndDeposit() {
+        sender.withdraw(AMOUNT);
+        recipient.deposit(AMOUNT);
+        return recipient.getBalance();
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalWithdrawAndDeposit() {
+        if (DECIMAL_AMOUNT.compareTo(BigDecimal.ZERO) <= 0) throw new IllegalArgumentException();
+        if (senderBalance.compareTo(DECIMAL_AMOUNT) < 0) throw new IllegalStateException();
+        senderBalance = senderBalance.subtract(DECIMAL_AMOUNT);
+        if (DECIMAL_AMOUNT.compareTo(BigDecimal.ZERO) <= 0) throw new IllegalArgumentException();
+        recipientBalance = recipientBalance.add(DECIMAL_AMOUNT);
+        return recipientBalance;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.corebanking.benchmark;
+
+import com.example.corebanking.CoreBankingApplication;
+import com.example.corebanking.account.domain.Account;
+import com.example.corebanking.account.repository.AccountRepository;
+import com.example.corebanking.common.money.Money;
+import com.example.corebanking.transfer.dto.TransferRequest;
+import com.example.corebanking.transfer.repository.TransferRepository;
+import com.example.corebanking.transfer.service.TransferService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Skewed workload: many senders transferring to one hot recipient at the same time
+ * Pessimistic strategy with and without the per-account lane (banking.transfer.lane.enabled),
+ * so the lane's throughput gain over the plain row lock path can be reproduced.
+ *
+ * More threads than pooled connections: without the lane the waiters hold a connection
+ * while they queue on the recipient's row lock.
+ * In-process H2 makes row lock waits and round trips cheap, so it understates the gain;
+ * point spring.datasource.* at MySQL for numbers that match production.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 15, time = 10)
+@Measurement(iterations = 10, time = 5)
+@Fork(2)
+@Threads(HotAccountTransferBenchmark.SENDERS)
+public class HotAccountTransferBenchmark {
+
+    static final int SENDERS = 16;
+    private static final String HOT_ACCOUNT_NUMBER = "9000";
+
+    @Param({"true", "false"})
+    private String laneEnabled;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger nextSender = new AtomicInteger();
+
+    private ConfigurableApplicationContext context;
+    private TransferService transferService;
+    private TransferRepository transferRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringApplication.run(CoreBankingApplication.class,
+                "--spring.datasource.url=jdbc:h2:mem:core_banking_hot_bench;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--banking.transfer.idempotency.ttl=1s",
+                "--banking.transfer.strategy=PESSIMISTIC",
+                "--banking.transfer.lane.enabled=" + laneEnabled);
+        transferService = context.getBean(TransferService.class);
+        transferRepository = context.getBean(TransferRepository.class);
+
+        AccountRepository accountRepository = context.getBean(AccountRepository.class);
+        transferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+        for (int i = 0; i < SENDERS; i++) {
+            accountRepository.saveAndFlush(Account.builder()
+                    .userUuid(senderUuid(i))
+                    .accountNumber(String.valueOf(1000 + i))
+                    .balance(Money.of(1_000_000_000_000L))
+                    .build());
+        }
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid("bench-hot-recipient-uuid")
+                .accountNumber(HOT_ACCOUNT_NUMBER)
+                .balance(Money.ZERO)
+                .build());
+    }
+
+    @Setup(Level.Iteration)
+    public void resetTransfers() {
+        transferRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Each benchmark thread sends from its own account
+     */
+    @State(Scope.Thread)
+    public static class Sender {
+        private String userUuid;
+
+        @Setup(Level.Trial)
+        public void setUp(HotAccountTransferBenchmark benchmark) {
+            userUuid = senderUuid(benchmark.nextSender.getAndIncrement() % SENDERS);
+        }
+    }
+
+    @Benchmark
+    public String transferToHotAccount(Sender sender) {
+        String txId = "hot-" + laneEnabled + "-" + sequence.incrementAndGet();
+        return transferService.transfer(sender.userUuid, new TransferRequest(HOT_ACCOUNT_NUMBER, Money.of(1), txId));
+    }
+
+    private static String senderUuid(int index) {
+        return "bench-hot-sender-" + index;
+    }
+}
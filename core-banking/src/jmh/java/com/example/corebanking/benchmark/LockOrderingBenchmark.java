@@ -0,0 +1,74 @@
+package com.example.corebanking.benchmark;
+
+import com.example.corebanking.account.domain.Account;
+import com.example.corebanking.common.metrics.TransferMetrics;
+import com.example.corebanking.common.money.Money;
+import com.example.corebanking.config.TransferProperties;
+import com.example.corebanking.transfer.service.TransferLane;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lock ordering overhead of a single transfer
+ * - sortAndRemap : id sort + re-mapping of the locked rows (PessimisticTransferStrategy)
+ * - lane         : in-process stripe acquisition (TransferLane), uncontended
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LockOrderingBenchmark {
+
+    private final Long fromId = 42L;
+    private final Long toId = 7L;
+
+    private List<Account> lockedAccounts;
+    private TransferLane transferLane;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        // Rows come back from "FOR UPDATE ... ORDER BY id" in id order
+        lockedAccounts = List.of(account(toId, "2222"), account(fromId, "1111"));
+        transferLane = new TransferLane(new TransferProperties(), new TransferMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public Account sortAndRemap() {
+        List<Long> accountIds = Arrays.asList(fromId, toId);
+        accountIds.sort(Long::compareTo);
+
+        Account sender = lockedAccounts.stream()
+                .filter(a -> a.getId().equals(fromId))
+                .findFirst().orElseThrow();
+        Account recipient = lockedAccounts.stream()
+                .filter(a -> a.getId().equals(toId))
+                .findFirst().orElseThrow();
+
+        return accountIds.get(0).equals(sender.getId()) ? sender : recipient;
+    }
+
+    @Benchmark
+    public Long lane() {
+        return transferLane.execute(List.of(fromId, toId), () -> fromId);
+    }
+
+    private Account account(Long id, String accountNumber) throws ReflectiveOperationException {
+        Account account = Account.builder()
+                .userUuid("bench-" + accountNumber)
+                .accountNumber(accountNumber)
+                .balance(Money.ZERO)
+                .build();
+        // id is assigned by TimeOrderedIdGenerator on persist and has no setter
+        Field idField = Account.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(account, id);
+        return account;
+    }
+}
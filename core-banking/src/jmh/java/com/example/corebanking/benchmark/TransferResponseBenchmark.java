@@ -0,0 +1,58 @@
+package com.example.corebanking.benchmark;
+
+import com.example.corebanking.common.money.Money;
+import com.example.corebanking.transfer.domain.Transfer;
+import com.example.corebanking.transfer.dto.TransferResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping of the transfer history
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransferResponseBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private Transfer transfer;
+    private List<Transfer> page;
+
+    @Setup
+    public void setUp() {
+        transfer = newTransfer();
+        page = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            page.add(newTransfer());
+        }
+    }
+
+    @Benchmark
+    public TransferResponse from() {
+        return TransferResponse.from(transfer);
+    }
+
+    @Benchmark
+    public List<TransferResponse> fromPage() {
+        return page.stream().map(TransferResponse::from).toList();
+    }
+
+    private Transfer newTransfer() {
+        return Transfer.builder()
+                .fromAccountNumber("1111")
+                .toAccountNumber("2222")
+                .amount(Money.of(1000))
+                .userUuid("bench-sender")
+                .transactionId(UUID.randomUUID().toString())
+                .build();
+    }
+}
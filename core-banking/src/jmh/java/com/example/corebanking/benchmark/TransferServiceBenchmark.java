@@ -0,0 +1,94 @@
+package com.example.corebanking.benchmark;
+
+import com.example.corebanking.CoreBankingApplication;
+import com.example.corebanking.account.domain.Account;
+import com.example.corebanking.account.repository.AccountRepository;
+import com.example.corebanking.common.money.Money;
+import com.example.corebanking.transfer.dto.TransferRequest;
+import com.example.corebanking.transfer.repository.TransferRepository;
+import com.example.corebanking.transfer.service.TransferService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Whole TransferService.transfer() call against an embedded H2 database (MySQL mode)
+ *
+ * Numbers are only comparable between runs of this benchmark; they do not
+ * predict latency against a real MySQL server.
+ *
+ * The whole stack (Hibernate, Hikari, H2) needs far longer than a microbenchmark to settle:
+ * the score keeps falling for about a minute (10x) before it levels off.
+ * The transfers table is emptied before every iteration so each one starts from the same state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 15, time = 10)
+@Measurement(iterations = 10, time = 5)
+@Fork(2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransferServiceBenchmark {
+
+    private static final String SENDER_UUID = "bench-sender-uuid";
+
+    @Param({"PESSIMISTIC", "OPTIMISTIC", "CONDITIONAL_UPDATE"})
+    private String strategy;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private TransferService transferService;
+    private TransferRepository transferRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Command line arguments win over application.yaml
+        context = SpringApplication.run(CoreBankingApplication.class,
+                "--spring.datasource.url=jdbc:h2:mem:core_banking_bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                // Keeps the in-memory reservation map from growing for the whole trial
+                "--banking.transfer.idempotency.ttl=1s",
+                "--banking.transfer.strategy=" + strategy);
+        transferService = context.getBean(TransferService.class);
+        transferRepository = context.getBean(TransferRepository.class);
+
+        AccountRepository accountRepository = context.getBean(AccountRepository.class);
+        transferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid(SENDER_UUID)
+                .accountNumber("1111")
+                .balance(Money.of(1_000_000_000_000L))
+                .build());
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid("bench-recipient-uuid")
+                .accountNumber("2222")
+                .balance(Money.ZERO)
+                .build());
+    }
+
+    @Setup(Level.Iteration)
+    public void resetTransfers() {
+        transferRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String transfer() {
+        String txId = strategy + "-" + sequence.incrementAndGet();
+        return transferService.transfer(SENDER_UUID, new TransferRequest("2222", Money.of(1), txId));
+    }
+}
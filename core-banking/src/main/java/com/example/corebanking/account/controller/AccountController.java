@@ -2,20 +2,28 @@ package com.example.corebanking.account.controller;
 
 import com.example.corebanking.account.dto.AccountCreateRequest;
 import com.example.corebanking.account.dto.AccountResponse;
+import com.example.corebanking.account.dto.BulkAccountResponse;
 import com.example.corebanking.account.service.AccountService;
+import com.example.corebanking.account.service.BulkAccountService;
+import com.example.corebanking.account.service.BulkAccountService.InputFormat;
 import com.example.corebanking.common.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/banking/accounts")
 public class AccountController {
 
     private final AccountService accountService;
+    private final BulkAccountService bulkAccountService;
 
     /**
      * Account create API
@@ -30,6 +38,20 @@ public class AccountController {
         return ApiResponse.success("Account opened successfully.", response);
     }
 
+    /**
+     * Bulk account opening API (operators only, streamed body, per-record failures)
+     * Request : POST /api/v1/banking/accounts/bulk  (Content-Type: application/x-ndjson | text/csv)
+     */
+    @PostMapping(value = "/bulk", consumes = {"application/x-ndjson", "text/csv"})
+    public ApiResponse<BulkAccountResponse> createAccounts(
+            @AuthenticationPrincipal String userUuid,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        BulkAccountResponse response = bulkAccountService.openAccounts(userUuid, InputFormat.of(contentType), body);
+
+        return ApiResponse.success("Bulk account opening finished.", response);
+    }
+
     /**
      * Account inquiry API
      * GET /api/v1/accounts/banking/{accountNumber}
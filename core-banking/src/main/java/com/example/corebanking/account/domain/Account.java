@@ -1,17 +1,19 @@
 package com.example.corebanking.account.domain;
 
+import com.example.corebanking.common.id.TimeOrderedId;
+import com.example.corebanking.common.money.Money;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.math.BigDecimal;
-
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "accounts")
 public class Account {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    public static final String INSUFFICIENT_BALANCE = "Insufficient balance.";
+
+    @Id @TimeOrderedId
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -21,27 +23,40 @@ public class Account {
     private String accountNumber;
 
     @Column(nullable = false)
-    private BigDecimal balance;
+    private Money balance;
 
-    // [Point] Versioning for Optimistic Lock
-    //@Version
-    //private Long version;
+    // [Point] Versioning for Optimistic Lock (banking.transfer.strategy=OPTIMISTIC)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // Hot accounts spread incoming credits over AccountBalanceSlot rows (banking.account.hot)
+    @Column(nullable = false)
+    private boolean hot;
 
     @Builder
-    public Account(String userUuid, String accountNumber, BigDecimal balance) {
+    public Account(String userUuid, String accountNumber, Money balance) {
         this.userUuid = userUuid;
         this.accountNumber = accountNumber;
         this.balance = balance;
     }
 
-    public void deposit(BigDecimal amount) {
-        if (amount.compareTo(BigDecimal.ZERO) <= 0) throw new IllegalArgumentException("Deposit amount must be greater than 0.");
+    public void deposit(Money amount) {
+        if (!amount.isPositive()) throw new IllegalArgumentException("Deposit amount must be greater than 0.");
         this.balance = this.balance.add(amount);
     }
 
-    public void withdraw(BigDecimal amount) {
-        if (amount.compareTo(BigDecimal.ZERO) <= 0) throw new IllegalArgumentException("Withdrawal amount must be greater than 0.");
-        if (this.balance.compareTo(amount) < 0) throw new IllegalStateException("Insufficient balance.");
+    public void markHot() {
+        this.hot = true;
+    }
+
+    public void clearHot() {
+        this.hot = false;
+    }
+
+    public void withdraw(Money amount) {
+        if (!amount.isPositive()) throw new IllegalArgumentException("Withdrawal amount must be greater than 0.");
+        if (this.balance.isLessThan(amount)) throw new IllegalStateException(INSUFFICIENT_BALANCE);
         this.balance = this.balance.subtract(amount);
     }
 }
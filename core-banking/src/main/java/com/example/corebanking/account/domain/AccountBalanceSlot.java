@@ -0,0 +1,47 @@
+package com.example.corebanking.account.domain;
+
+import com.example.corebanking.common.money.Money;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * One sub-balance of a hot account (see HotAccountLedger)
+ * The balance of a hot account is Account.balance + the sum of its slots.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "account_balance_slots", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_account_balance_slots_account_slot", columnNames = {"accountId", "slotIndex"})
+})
+public class AccountBalanceSlot {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long accountId;
+
+    @Column(nullable = false)
+    private int slotIndex;
+
+    @Column(nullable = false)
+    private Money balance;
+
+    public AccountBalanceSlot(Long accountId, int slotIndex) {
+        this.accountId = accountId;
+        this.slotIndex = slotIndex;
+        this.balance = Money.ZERO;
+    }
+
+    /**
+     * Empty the slot and return what it held
+     */
+    public Money drain() {
+        Money drained = this.balance;
+        this.balance = Money.ZERO;
+        return drained;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.corebanking.account.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * High-water mark of the account number serials handed out in blocks (see AccountNumberGenerator)
+ * One row per sequence; it is locked once per leased block, never per account.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "account_number_blocks")
+public class AccountNumberBlock {
+
+    @Id
+    private String name;
+
+    // First serial of the next block to lease
+    @Column(nullable = false)
+    private long nextSerial;
+
+    public AccountNumberBlock(String name, long nextSerial) {
+        this.name = name;
+        this.nextSerial = nextSerial;
+    }
+
+    /**
+     * Reserve [nextSerial, nextSerial + size) and return its first serial
+     */
+    public long lease(int size) {
+        long start = this.nextSerial;
+        this.nextSerial = start + size;
+        return start;
+    }
+}
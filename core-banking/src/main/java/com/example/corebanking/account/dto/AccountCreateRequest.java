@@ -1,14 +1,13 @@
 package com.example.corebanking.account.dto;
 
-import jakarta.validation.constraints.Min;
+import com.example.corebanking.common.money.MinAmount;
+import com.example.corebanking.common.money.Money;
 import jakarta.validation.constraints.NotNull;
 
-import java.math.BigDecimal;
-
 public record AccountCreateRequest(
         @NotNull(message = "User Id is required")
         String userUuid,
 
-        @Min(value = 1000, message = "A minimum deposit of 1,000 yen is required to create an account.")
-        BigDecimal initialBalance
+        @MinAmount(value = 1000, message = "A minimum deposit of 1,000 yen is required to create an account.")
+        Money initialBalance
 ) {}
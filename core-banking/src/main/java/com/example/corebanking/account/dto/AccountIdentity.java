@@ -0,0 +1,10 @@
+package com.example.corebanking.account.dto;
+
+/**
+ * Immutable identity of an account (PK id + account number)
+ * Used to resolve lock order without loading the entity.
+ */
+public record AccountIdentity(
+        Long id,
+        String accountNumber
+) {}
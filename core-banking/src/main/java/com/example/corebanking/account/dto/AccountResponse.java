@@ -1,18 +1,22 @@
 package com.example.corebanking.account.dto;
 
 import com.example.corebanking.account.domain.Account;
-
-import java.math.BigDecimal;
+import com.example.corebanking.common.money.Money;
 
 public record AccountResponse(
         String accountNumber,
-        BigDecimal balance,
+        Money balance,
         String userUuid
 ) {
     public static AccountResponse from(Account account) {
+        return from(account, account.getBalance());
+    }
+
+    // Hot accounts: balance includes the sub-ledger slots
+    public static AccountResponse from(Account account, Money balance) {
         return new AccountResponse(
                 account.getAccountNumber(),
-                account.getBalance(),
+                balance,
                 account.getUserUuid()
         );
     }
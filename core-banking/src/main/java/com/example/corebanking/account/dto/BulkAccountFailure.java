@@ -0,0 +1,7 @@
+package com.example.corebanking.account.dto;
+
+public record BulkAccountFailure(
+        long line,        // 1-based line of the input (CSV header included)
+        String userUuid,  // null when the line could not be parsed
+        String message
+) {}
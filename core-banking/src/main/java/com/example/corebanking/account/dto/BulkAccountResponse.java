@@ -0,0 +1,11 @@
+package com.example.corebanking.account.dto;
+
+import java.util.List;
+
+public record BulkAccountResponse(
+        long total,
+        long created,
+        long failed,
+        // Capped at banking.account.bulk.max-reported-failures; the counts are always exact
+        List<BulkAccountFailure> failures
+) {}
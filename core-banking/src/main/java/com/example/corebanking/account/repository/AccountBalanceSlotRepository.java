@@ -0,0 +1,28 @@
+package com.example.corebanking.account.repository;
+
+import com.example.corebanking.account.domain.AccountBalanceSlot;
+import com.example.corebanking.common.money.Money;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface AccountBalanceSlotRepository extends JpaRepository<AccountBalanceSlot, Long> {
+
+    List<AccountBalanceSlot> findByAccountId(Long accountId);
+
+    // Slots are always locked in slotIndex order (sweep / fold)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AccountBalanceSlot s WHERE s.accountId = :accountId ORDER BY s.slotIndex")
+    List<AccountBalanceSlot> findByAccountIdWithLock(@Param("accountId") Long accountId);
+
+    // Credit one slot: only that slot row is locked, the accounts row is not touched
+    @Modifying
+    @Query("UPDATE AccountBalanceSlot s SET s.balance = s.balance + :amount " +
+            "WHERE s.accountId = :accountId AND s.slotIndex = :slotIndex")
+    int creditSlot(@Param("accountId") Long accountId, @Param("slotIndex") int slotIndex, @Param("amount") Money amount);
+}
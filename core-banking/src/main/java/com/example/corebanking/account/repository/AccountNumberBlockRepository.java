@@ -0,0 +1,17 @@
+package com.example.corebanking.account.repository;
+
+import com.example.corebanking.account.domain.AccountNumberBlock;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface AccountNumberBlockRepository extends JpaRepository<AccountNumberBlock, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from AccountNumberBlock b where b.name = :name")
+    Optional<AccountNumberBlock> findByNameWithLock(@Param("name") String name);
+}
@@ -1,12 +1,17 @@
 package com.example.corebanking.account.repository;
 
 import com.example.corebanking.account.domain.Account;
+import com.example.corebanking.account.dto.AccountIdentity;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.corebanking.common.money.Money;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,8 +42,35 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     @Query("SELECT a.id FROM Account a WHERE a.userUuid = :userUuid")
     Optional<Long> findIdByUserUuid(@Param("userUuid") String userUuid);
 
+    // Identity lookups of the transfer path are read-write on purpose: they run on the primary
+    // (not a lagging replica), so an account opened a moment ago is never cached as unknown
+    @Transactional
     @Query("SELECT a.id FROM Account a WHERE a.accountNumber = :accountNumber")
     Optional<Long> findIdByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    @Transactional
+    @Query("SELECT new com.example.corebanking.account.dto.AccountIdentity(a.id, a.accountNumber) " +
+            "FROM Account a WHERE a.userUuid = :userUuid")
+    Optional<AccountIdentity> findIdentityByUserUuid(@Param("userUuid") String userUuid);
+
+    @Transactional
+    @Query("SELECT new com.example.corebanking.account.dto.AccountIdentity(a.id, a.accountNumber) " +
+            "FROM Account a WHERE a.accountNumber IN :accountNumbers")
+    List<AccountIdentity> findIdentitiesByAccountNumbers(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    // Guarded debit: "UPDATE accounts SET balance = balance - ? ... WHERE id = ? AND balance >= ?"
+    // Returns 0 when the balance is insufficient (or the account does not exist)
+    @Modifying
+    @Query("UPDATE Account a SET a.balance = a.balance - :amount, a.version = a.version + 1 " +
+            "WHERE a.id = :id AND a.balance >= :amount")
+    int withdrawIfSufficient(@Param("id") Long id, @Param("amount") Money amount);
+
+    @Modifying
+    @Query("UPDATE Account a SET a.balance = a.balance + :amount, a.version = a.version + 1 WHERE a.id = :id")
+    int depositById(@Param("id") Long id, @Param("amount") Money amount);
+
+    List<Account> findByHotTrue();
+
     //Find account list by user ID (Add if needed)
      //List<Account> findByUserId(Long userId);
 }
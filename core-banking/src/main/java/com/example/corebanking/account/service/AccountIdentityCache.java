@@ -0,0 +1,128 @@
+package com.example.corebanking.account.service;
+
+import com.example.corebanking.account.dto.AccountIdentity;
+import com.example.corebanking.account.repository.AccountRepository;
+import com.example.corebanking.config.AccountProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-process cache of immutable account identities
+ * userUuid -> (id, accountNumber) and accountNumber -> id never change after an account is created,
+ * so the two indexed SELECTs of every transfer are served from memory.
+ *
+ * Unknown account numbers are cached negatively for a short time.
+ * Hit / miss / eviction metrics: cache_gets_total, cache_evictions_total {cache="account_identity_*"}
+ */
+@Component
+public class AccountIdentityCache {
+
+    private final AccountRepository accountRepository;
+    private final Cache<String, AccountIdentity> byUserUuid;
+    private final Cache<String, Long> byAccountNumber;
+    private final Cache<String, Boolean> unknownAccountNumbers;
+
+    public AccountIdentityCache(AccountRepository accountRepository, AccountProperties accountProperties,
+                                MeterRegistry registry) {
+        this.accountRepository = accountRepository;
+        AccountProperties.IdentityCache config = accountProperties.getIdentityCache();
+
+        this.byUserUuid = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .recordStats()
+                .build();
+        this.byAccountNumber = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .recordStats()
+                .build();
+        this.unknownAccountNumbers = Caffeine.newBuilder()
+                .maximumSize(config.getNegativeMaximumSize())
+                .expireAfterWrite(config.getNegativeTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(registry, byUserUuid, "account_identity_by_user");
+        CaffeineCacheMetrics.monitor(registry, byAccountNumber, "account_identity_by_number");
+        CaffeineCacheMetrics.monitor(registry, unknownAccountNumbers, "account_identity_unknown_number");
+    }
+
+    public Optional<AccountIdentity> findByUserUuid(String userUuid) {
+        AccountIdentity cached = byUserUuid.getIfPresent(userUuid);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<AccountIdentity> loaded = accountRepository.findIdentityByUserUuid(userUuid);
+        loaded.ifPresent(identity -> {
+            byUserUuid.put(userUuid, identity);
+            byAccountNumber.put(identity.accountNumber(), identity.id());
+        });
+        return loaded;
+    }
+
+    public Optional<Long> findIdByAccountNumber(String accountNumber) {
+        Long cached = byAccountNumber.getIfPresent(accountNumber);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        if (unknownAccountNumbers.getIfPresent(accountNumber) != null) {
+            return Optional.empty();
+        }
+
+        Optional<Long> loaded = accountRepository.findIdByAccountNumber(accountNumber);
+        loaded.ifPresentOrElse(
+                id -> byAccountNumber.put(accountNumber, id),
+                () -> unknownAccountNumbers.put(accountNumber, Boolean.TRUE));
+        return loaded;
+    }
+
+    /**
+     * Resolve many account numbers; all misses are loaded with one IN query
+     * @return accountNumber -> id (unknown numbers are absent)
+     */
+    public Map<String, Long> findIdsByAccountNumbers(Collection<String> accountNumbers) {
+        Map<String, Long> result = new HashMap<>(byAccountNumber.getAllPresent(accountNumbers));
+
+        List<String> misses = accountNumbers.stream()
+                .filter(number -> !result.containsKey(number))
+                .filter(number -> unknownAccountNumbers.getIfPresent(number) == null)
+                .distinct()
+                .toList();
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        for (AccountIdentity identity : accountRepository.findIdentitiesByAccountNumbers(misses)) {
+            byAccountNumber.put(identity.accountNumber(), identity.id());
+            result.put(identity.accountNumber(), identity.id());
+        }
+        misses.stream()
+                .filter(number -> !result.containsKey(number))
+                .forEach(number -> unknownAccountNumbers.put(number, Boolean.TRUE));
+        return result;
+    }
+
+    /**
+     * Called when an account is opened (the number may have been cached as unknown)
+     */
+    public void onAccountCreated(String accountNumber) {
+        unknownAccountNumbers.invalidate(accountNumber);
+    }
+
+    /**
+     * Drop identities that turned out to point to a row that no longer exists
+     */
+    public void evict(String userUuid, Collection<String> accountNumbers) {
+        byUserUuid.invalidate(userUuid);
+        byAccountNumber.invalidateAll(accountNumbers);
+    }
+}
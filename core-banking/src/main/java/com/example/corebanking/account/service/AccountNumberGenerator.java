@@ -0,0 +1,195 @@
+package com.example.corebanking.account.service;
+
+import com.example.corebanking.account.domain.AccountNumberBlock;
+import com.example.corebanking.account.repository.AccountNumberBlockRepository;
+import com.example.corebanking.config.AccountProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Collision-free account numbers: "0XXX-XXXX-XXXX" = 11-digit serial + Luhn check digit
+ *
+ * Serials are leased from the account_number_blocks row in blocks (hi/lo) and handed out
+ * from memory with a single atomic increment, so opening an account never touches a shared row
+ * and never collides on the unique constraint.
+ * - The lease runs in its own transaction: the row lock is released right away and a rolled-back
+ *   account opening does not give its number back (gaps are expected, duplicates are impossible).
+ * - The next block is prefetched on a background thread once half of the current one is used,
+ *   so callers (inside their own account-opening transaction, holding a pooled connection) do
+ *   not wait on a lease that needs a second connection. Only a caller that outruns the prefetch
+ *   waits for it, and never while holding a monitor (ReentrantLock: virtual threads stay unpinned).
+ * - Serials stay below 10^10, so new numbers start with "0"; the legacy random numbers never do.
+ */
+@Slf4j
+@Component
+public class AccountNumberGenerator {
+
+    static final String SEQUENCE_NAME = "account";
+    static final long MAX_SERIAL = 10_000_000_000L;
+
+    private final AccountNumberBlockRepository blockRepository;
+    private final TransactionTemplate requiresNew;
+    private final int blockSize;
+
+    private final ReentrantLock refillLock = new ReentrantLock();
+    private final ExecutorService prefetcher = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("account-number-prefetch").factory());
+
+    private volatile Block current = Block.EMPTY;
+    // Guarded by refillLock
+    private CompletableFuture<Block> prefetched;
+
+    public AccountNumberGenerator(AccountNumberBlockRepository blockRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  AccountProperties accountProperties) {
+        this.blockRepository = blockRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = accountProperties.getNumberBlock().getSize();
+    }
+
+    public String nextAccountNumber() {
+        while (true) {
+            Block block = current;
+            long serial = block.next.getAndIncrement();
+            if (serial == block.prefetchAt) {
+                // Exactly one caller gets this serial
+                prefetch();
+            }
+            if (serial < block.end) {
+                return format(serial);
+            }
+            refill(block);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        prefetcher.shutdownNow();
+    }
+
+    private void prefetch() {
+        refillLock.lock();
+        try {
+            if (prefetched == null) {
+                prefetched = CompletableFuture.supplyAsync(this::leaseBlock, prefetcher);
+            }
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    // Only the thread that finds the block exhausted installs a new one; the others pick it up
+    private void refill(Block exhausted) {
+        refillLock.lock();
+        try {
+            if (current != exhausted) {
+                return;
+            }
+            CompletableFuture<Block> next = prefetched;
+            prefetched = null;
+            current = next == null ? leaseBlock() : awaitPrefetch(next);
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    private Block awaitPrefetch(CompletableFuture<Block> next) {
+        try {
+            return next.join();
+        } catch (CompletionException | CancellationException e) {
+            log.warn("Account number block prefetch failed, leasing directly", e);
+            return leaseBlock();
+        }
+    }
+
+    private Block leaseBlock() {
+        long start = lease();
+        log.info("Account number block leased - serials: [{}, {})", start, start + blockSize);
+        return new Block(start, start + blockSize);
+    }
+
+    private long lease() {
+        try {
+            return leaseOnce();
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created the sequence row first
+            return leaseOnce();
+        }
+    }
+
+    private long leaseOnce() {
+        Long start = requiresNew.execute(status -> {
+            AccountNumberBlock sequence = blockRepository.findByNameWithLock(SEQUENCE_NAME)
+                    .orElseGet(() -> new AccountNumberBlock(SEQUENCE_NAME, 1));
+            long leased = sequence.lease(blockSize);
+            blockRepository.saveAndFlush(sequence);
+            return leased;
+        });
+        if (start + blockSize > MAX_SERIAL) {
+            throw new IllegalStateException("Account number space is exhausted.");
+        }
+        return start;
+    }
+
+    static String format(long serial) {
+        String digits = String.format("%011d", serial);
+        digits += checkDigit(digits);
+        return digits.substring(0, 4) + "-" + digits.substring(4, 8) + "-" + digits.substring(8);
+    }
+
+    /**
+     * Luhn check of a generated account number (dashes ignored)
+     */
+    public static boolean isValid(String accountNumber) {
+        String digits = accountNumber.replace("-", "");
+        if (digits.length() != 12 || !digits.chars().allMatch(Character::isDigit)) {
+            return false;
+        }
+        return checkDigit(digits.substring(0, 11)) == digits.charAt(11) - '0';
+    }
+
+    private static int checkDigit(String payload) {
+        int sum = 0;
+        // Doubling starts from the rightmost payload digit (the check digit goes to its right)
+        for (int i = payload.length() - 1, position = 0; i >= 0; i--, position++) {
+            int digit = payload.charAt(i) - '0';
+            if (position % 2 == 0) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    private static final class Block {
+        static final Block EMPTY = new Block(0, 0);
+
+        final AtomicLong next;
+        final long end;
+        // Half-way serial: when it is handed out, the next block is leased in the background
+        final long prefetchAt;
+
+        Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+            this.prefetchAt = start + (end - start) / 2;
+        }
+    }
+}
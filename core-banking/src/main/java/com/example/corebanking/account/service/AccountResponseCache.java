@@ -0,0 +1,71 @@
+package com.example.corebanking.account.service;
+
+import com.example.corebanking.account.dto.AccountResponse;
+import com.example.corebanking.config.AccountProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of account inquiries (accountNumber -> AccountResponse)
+ * Lookups by userUuid go through AccountIdentityCache to the account number first.
+ *
+ * Entries are dropped once a transfer touching the account commits. max-staleness bounds what
+ * this instance cannot see: balance changes committed by other instances, or a replica that
+ * was still lagging when the entry was loaded.
+ * Hit / miss metrics: cache_gets_total{cache="account_response"}
+ */
+@Component
+public class AccountResponseCache {
+
+    private final Cache<String, AccountResponse> byAccountNumber;
+
+    public AccountResponseCache(AccountProperties accountProperties, MeterRegistry registry) {
+        AccountProperties.ResponseCache config = accountProperties.getResponseCache();
+
+        this.byAccountNumber = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfterWrite(config.getMaxStaleness())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(registry, byAccountNumber, "account_response");
+    }
+
+    /**
+     * @param loader Returns null for an unknown account (not cached)
+     */
+    public AccountResponse get(String accountNumber, Function<String, AccountResponse> loader) {
+        return byAccountNumber.get(accountNumber, loader);
+    }
+
+    /**
+     * Drop the accounts once the current transaction commits (right away without one)
+     * A load racing with the invalidation is discarded by Caffeine, so the old balance cannot come back.
+     */
+    public void evictAfterCommit(Collection<String> accountNumbers) {
+        List<String> numbers = List.copyOf(accountNumbers);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            byAccountNumber.invalidateAll(numbers);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                byAccountNumber.invalidateAll(numbers);
+            }
+        });
+    }
+
+    public void invalidateAll() {
+        byAccountNumber.invalidateAll();
+    }
+}
@@ -2,28 +2,54 @@ package com.example.corebanking.account.service;
 
 import com.example.corebanking.account.domain.Account;
 import com.example.corebanking.account.dto.AccountCreateRequest;
+import com.example.corebanking.account.dto.AccountIdentity;
 import com.example.corebanking.account.dto.AccountResponse;
 import com.example.corebanking.account.repository.AccountRepository;
+import com.example.corebanking.common.datasource.ReadYourWritesTracker;
 import jakarta.persistence.EntityNotFoundException;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.List;
 
+/**
+ * Inquiries are served by AccountResponseCache and are not transactional themselves:
+ * a cache hit must not open a transaction (nor borrow a connection). Misses load the
+ * account row and its hot slots in one read-only transaction.
+ */
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class AccountService {
 
     private final AccountRepository accountRepository;
+    private final AccountIdentityCache accountIdentityCache;
+    private final HotAccountLedger hotAccountLedger;
+    private final AccountNumberGenerator accountNumberGenerator;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AccountResponseCache accountResponseCache;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public AccountService(AccountRepository accountRepository, AccountIdentityCache accountIdentityCache,
+                          HotAccountLedger hotAccountLedger, AccountNumberGenerator accountNumberGenerator,
+                          ReadYourWritesTracker readYourWritesTracker, AccountResponseCache accountResponseCache,
+                          PlatformTransactionManager transactionManager) {
+        this.accountRepository = accountRepository;
+        this.accountIdentityCache = accountIdentityCache;
+        this.hotAccountLedger = hotAccountLedger;
+        this.accountNumberGenerator = accountNumberGenerator;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.accountResponseCache = accountResponseCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
 
     /**
      * Create account
      */
     @Transactional
     public AccountResponse createAccount(String userUuid, AccountCreateRequest request) {
-        String newAccountNumber = generateAccountNumber();
+        String newAccountNumber = accountNumberGenerator.nextAccountNumber();
 
         Account account = Account.builder()
                 .userUuid(userUuid)
@@ -32,34 +58,38 @@ public class AccountService {
                 .build();
 
         Account savedAccount = accountRepository.save(account);
+        accountIdentityCache.onAccountCreated(savedAccount.getAccountNumber());
+        readYourWritesTracker.markWrite(userUuid);
 
         return AccountResponse.from(savedAccount);
     }
 
-    /**
-     * Generate account number (Temporary logic)
-     */
-    private String generateAccountNumber() {
-        return ThreadLocalRandom.current().nextInt(1000, 9999) + "-" +
-                ThreadLocalRandom.current().nextInt(1000, 9999) + "-" +
-                ThreadLocalRandom.current().nextInt(1000, 9999);
-    }
-
     /**
      * Account inquiry
      */
     public AccountResponse getAccount(String accountNumber) {
-        Account account = accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new IllegalArgumentException("Account not found."));
-
-        return AccountResponse.from(account);
+        AccountResponse response = accountResponseCache.get(accountNumber, this::loadAccount);
+        if (response == null) {
+            throw new IllegalArgumentException("Account not found.");
+        }
+        return response;
     }
 
-    @Transactional(readOnly = true)
     public AccountResponse getAccountByUserUuid(String userUuid) {
-        Account account = accountRepository.findByUserUuid(userUuid)
+        AccountIdentity identity = accountIdentityCache.findByUserUuid(userUuid)
                 .orElseThrow(() -> new EntityNotFoundException("Account not found."));
 
-        return AccountResponse.from(account);
+        AccountResponse response = accountResponseCache.get(identity.accountNumber(), this::loadAccount);
+        if (response == null) {
+            accountIdentityCache.evict(userUuid, List.of(identity.accountNumber()));
+            throw new EntityNotFoundException("Account not found.");
+        }
+        return response;
+    }
+
+    private AccountResponse loadAccount(String accountNumber) {
+        return readOnlyTransaction.execute(status -> accountRepository.findByAccountNumber(accountNumber)
+                .map(account -> AccountResponse.from(account, hotAccountLedger.totalBalance(account)))
+                .orElse(null));
     }
 }
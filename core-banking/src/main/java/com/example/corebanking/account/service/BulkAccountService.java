@@ -0,0 +1,250 @@
+package com.example.corebanking.account.service;
+
+import com.example.corebanking.account.dto.AccountCreateRequest;
+import com.example.corebanking.account.dto.BulkAccountFailure;
+import com.example.corebanking.account.dto.BulkAccountResponse;
+import com.example.corebanking.common.id.TimeOrderedIdGenerator;
+import com.example.corebanking.common.money.Money;
+import com.example.corebanking.config.AccountProperties;
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Bulk account opening (migrations, partner onboarding)
+ *
+ * The body is read line by line and inserted in JDBC batches of banking.account.bulk.batch-size,
+ * one transaction per batch, so memory does not grow with the input.
+ * A batch that fails (e.g. a userUuid that already has an account) is rolled back and replayed
+ * row by row, so only the offending records are reported and the run goes on.
+ */
+@Slf4j
+@Service
+public class BulkAccountService {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO accounts (id, user_uuid, account_number, balance, version, hot)
+            VALUES (?, ?, ?, ?, 0, false)
+            """;
+
+    private static final String CSV_HEADER_PREFIX = "useruuid";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final AccountNumberGenerator accountNumberGenerator;
+    private final AccountIdentityCache accountIdentityCache;
+    private final AccountProperties.Bulk bulk;
+    // Same id space as the JPA inserts of Account (the sequence state is shared per JVM)
+    private final TimeOrderedIdGenerator idGenerator;
+
+    public BulkAccountService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                              ObjectMapper objectMapper, Validator validator,
+                              AccountNumberGenerator accountNumberGenerator,
+                              AccountIdentityCache accountIdentityCache, AccountProperties accountProperties,
+                              @Value("${spring.jpa.properties.banking.id.node-id:0}") long nodeId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.accountNumberGenerator = accountNumberGenerator;
+        this.accountIdentityCache = accountIdentityCache;
+        this.bulk = accountProperties.getBulk();
+        this.idGenerator = new TimeOrderedIdGenerator(nodeId);
+    }
+
+    /**
+     * Open one account per input record
+     * @param operatorUuid Caller, must be listed in banking.account.bulk.operators
+     * @param format       NDJSON ({"userUuid": ..., "initialBalance": ...} per line) or CSV (userUuid,initialBalance)
+     * @param body         Request body, not closed here
+     */
+    public BulkAccountResponse openAccounts(String operatorUuid, InputFormat format, InputStream body) throws IOException {
+        if (operatorUuid == null || !bulk.getOperators().contains(operatorUuid)) {
+            throw new AccessDeniedException("Bulk account opening is restricted to operators.");
+        }
+
+        Report report = new Report(bulk.getMaxReportedFailures());
+        List<PendingAccount> batch = new ArrayList<>(bulk.getBatchSize());
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (!StringUtils.hasText(line)
+                    || (format == InputFormat.CSV && lineNumber == 1 && line.trim().toLowerCase().startsWith(CSV_HEADER_PREFIX))) {
+                continue;
+            }
+
+            report.total++;
+            PendingAccount account = parse(lineNumber, line, format, report);
+            if (account == null) {
+                continue;
+            }
+
+            batch.add(account);
+            if (batch.size() >= bulk.getBatchSize()) {
+                insert(batch, report);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insert(batch, report);
+        }
+
+        log.info("bulk account opening done - operator: {}, format: {}, total: {}, created: {}, failed: {}",
+                operatorUuid, format, report.total, report.created, report.failed);
+        return new BulkAccountResponse(report.total, report.created, report.failed, report.failures);
+    }
+
+    private PendingAccount parse(long lineNumber, String line, InputFormat format, Report report) {
+        AccountCreateRequest request;
+        try {
+            request = format == InputFormat.CSV ? parseCsv(line) : objectMapper.readValue(line, AccountCreateRequest.class);
+        } catch (JacksonException | IllegalArgumentException e) {
+            report.fail(lineNumber, null, "Malformed record.");
+            return null;
+        }
+
+        if (!StringUtils.hasText(request.userUuid())) {
+            report.fail(lineNumber, null, "User Id is required");
+            return null;
+        }
+        // Same constraints as POST /banking/accounts
+        Set<ConstraintViolation<AccountCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            report.fail(lineNumber, request.userUuid(), violations.iterator().next().getMessage());
+            return null;
+        }
+        if (request.initialBalance() == null) {
+            report.fail(lineNumber, request.userUuid(), "Initial balance is required.");
+            return null;
+        }
+
+        return new PendingAccount(lineNumber, idGenerator.nextId(), request.userUuid().trim(),
+                accountNumberGenerator.nextAccountNumber(), request.initialBalance());
+    }
+
+    private AccountCreateRequest parseCsv(String line) {
+        String[] fields = line.split(",", -1);
+        if (fields.length != 2) {
+            throw new IllegalArgumentException("Expected userUuid,initialBalance");
+        }
+        return new AccountCreateRequest(unquote(fields[0]), Money.parse(unquote(fields[1])));
+    }
+
+    private String unquote(String field) {
+        String value = field.trim();
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            return value.substring(1, value.length() - 1).replace("\"\"", "\"");
+        }
+        return value;
+    }
+
+    private void insert(List<PendingAccount> batch, Report report) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bind));
+            batch.forEach(account -> created(account, report));
+        } catch (DataAccessException e) {
+            log.warn("bulk account batch rejected, replaying row by row - size: {}, cause: {}",
+                    batch.size(), e.getMostSpecificCause().getMessage());
+            batch.forEach(account -> insertOne(account, report));
+        }
+    }
+
+    private void insertOne(PendingAccount account, Report report) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, account));
+            created(account, report);
+        } catch (DuplicateKeyException e) {
+            report.fail(account.line(), account.userUuid(), "An account already exists for this user.");
+        } catch (DataAccessException e) {
+            // The driver message can carry schema details: keep it in the log, report a fixed reason
+            log.warn("bulk account row rejected - line: {}, cause: {}", account.line(), e.getMostSpecificCause().getMessage());
+            report.fail(account.line(), account.userUuid(), "Invalid row.");
+        }
+    }
+
+    private void bind(PreparedStatement ps, PendingAccount account) throws SQLException {
+        ps.setLong(1, account.id());
+        ps.setString(2, account.userUuid());
+        ps.setString(3, account.accountNumber());
+        ps.setBigDecimal(4, account.balance().toBigDecimal());
+    }
+
+    private void created(PendingAccount account, Report report) {
+        report.created++;
+        accountIdentityCache.onAccountCreated(account.accountNumber());
+    }
+
+    private record PendingAccount(long line, long id, String userUuid, String accountNumber, Money balance) {}
+
+    private static final class Report {
+        private final int maxReportedFailures;
+        private final List<BulkAccountFailure> failures = new ArrayList<>();
+        private long total;
+        private long created;
+        private long failed;
+
+        Report(int maxReportedFailures) {
+            this.maxReportedFailures = maxReportedFailures;
+        }
+
+        void fail(long line, String userUuid, String message) {
+            failed++;
+            if (failures.size() < maxReportedFailures) {
+                failures.add(new BulkAccountFailure(line, userUuid, message));
+            }
+        }
+    }
+
+    public enum InputFormat {
+        NDJSON("application/x-ndjson"),
+        CSV("text/csv");
+
+        private final String contentType;
+
+        InputFormat(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public static InputFormat of(String contentType) {
+            if (contentType != null) {
+                for (InputFormat format : values()) {
+                    if (contentType.toLowerCase().startsWith(format.contentType)) {
+                        return format;
+                    }
+                }
+            }
+            throw new IllegalArgumentException("Unsupported content type: " + contentType);
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+    }
+}
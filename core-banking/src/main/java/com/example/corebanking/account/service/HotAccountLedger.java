@@ -0,0 +1,196 @@
+package com.example.corebanking.account.service;
+
+import com.example.corebanking.account.domain.Account;
+import com.example.corebanking.account.domain.AccountBalanceSlot;
+import com.example.corebanking.account.repository.AccountBalanceSlotRepository;
+import com.example.corebanking.account.repository.AccountRepository;
+import com.example.corebanking.common.money.Money;
+import com.example.corebanking.config.AccountProperties;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sub-ledger of hot accounts (e.g. a popular merchant)
+ *
+ * The balance of a hot account is Account.balance + the sum of its AccountBalanceSlot rows.
+ * - Credit : one random slot is incremented with a single UPDATE; the accounts row is neither
+ *            locked nor queued on its lane, so credits to the same merchant run in parallel.
+ * - Debit  : the accounts row is locked as usual; when it is short, slots are locked in
+ *            slotIndex order and swept into it.
+ * Slot locks are always the last row locks of a transaction, so they cannot close a lock cycle
+ * with the id-ordered accounts locks.
+ *
+ * The in-memory registry only decides where credits go. Correctness does not depend on it:
+ * a credit to a missing slot falls back to the accounts row.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotAccountLedger {
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceSlotRepository slotRepository;
+    private final AccountProperties accountProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    // accountId -> number of slots
+    private final Map<Long, Integer> hotAccounts = new ConcurrentHashMap<>();
+
+    public boolean isHot(Long accountId) {
+        return hotAccounts.containsKey(accountId);
+    }
+
+    /**
+     * Credit an account inside the caller's transaction
+     * Hot accounts get a slot credit, others an atomic UPDATE of the accounts row.
+     */
+    public void credit(Long accountId, Money amount) {
+        if (!amount.isPositive()) {
+            throw new IllegalArgumentException("Deposit amount must be greater than 0.");
+        }
+
+        Integer slots = hotAccounts.get(accountId);
+        if (slots != null
+                && slotRepository.creditSlot(accountId, ThreadLocalRandom.current().nextInt(slots), amount) == 1) {
+            return;
+        }
+        if (accountRepository.depositById(accountId, amount) != 1) {
+            throw new EntityNotFoundException("Deposit account not found.");
+        }
+    }
+
+    /**
+     * Sweep slots into a locked (or versioned) hot account until it covers the amount
+     * No-op for regular accounts and when the main balance is already sufficient.
+     */
+    public void coverShortfall(Account account, Money amount) {
+        if (!account.isHot() || !account.getBalance().isLessThan(amount)) {
+            return;
+        }
+        for (AccountBalanceSlot slot : slotRepository.findByAccountIdWithLock(account.getId())) {
+            if (!slot.getBalance().isPositive()) {
+                continue;
+            }
+            account.deposit(slot.drain());
+            if (!account.getBalance().isLessThan(amount)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Sweep every slot into the accounts row without loading the entity (CONDITIONAL_UPDATE path)
+     * @return true if anything was moved
+     */
+    public boolean sweep(Long accountId) {
+        if (!isHot(accountId)) {
+            return false;
+        }
+        Money swept = Money.ZERO;
+        for (AccountBalanceSlot slot : slotRepository.findByAccountIdWithLock(accountId)) {
+            if (slot.getBalance().isPositive()) {
+                swept = swept.add(slot.drain());
+            }
+        }
+        return swept.isPositive() && accountRepository.depositById(accountId, swept) == 1;
+    }
+
+    /**
+     * Balance including the slots (AccountService inquiries)
+     */
+    public Money totalBalance(Account account) {
+        Money total = account.getBalance();
+        if (!account.isHot()) {
+            return total;
+        }
+        for (AccountBalanceSlot slot : slotRepository.findByAccountId(account.getId())) {
+            total = total.add(slot.getBalance());
+        }
+        return total;
+    }
+
+    /**
+     * Flag an account as hot and create its missing slots (idempotent)
+     */
+    public void designate(String accountNumber) {
+        int slotCount = Math.max(1, accountProperties.getHot().getSlots());
+
+        Long accountId = transactionTemplate.execute(status -> {
+            Account account = lockByAccountNumber(accountNumber);
+            account.markHot();
+
+            Set<Integer> existing = new HashSet<>();
+            slotRepository.findByAccountId(account.getId()).forEach(slot -> existing.add(slot.getSlotIndex()));
+            for (int i = 0; i < slotCount; i++) {
+                if (!existing.contains(i)) {
+                    slotRepository.save(new AccountBalanceSlot(account.getId(), i));
+                }
+            }
+            return account.getId();
+        });
+
+        // Only after commit: credits must never target slots that are not there yet
+        hotAccounts.put(accountId, slotCount);
+        log.info("Hot account designated - accountNumber: {}, slots: {}", accountNumber, slotCount);
+    }
+
+    /**
+     * Fold the slots back into the accounts row and clear the hot flag
+     */
+    public void release(String accountNumber) {
+        Long accountId = transactionTemplate.execute(status -> {
+            Account account = lockByAccountNumber(accountNumber);
+
+            List<AccountBalanceSlot> slots = slotRepository.findByAccountIdWithLock(account.getId());
+            for (AccountBalanceSlot slot : slots) {
+                if (slot.getBalance().isPositive()) {
+                    account.deposit(slot.drain());
+                }
+            }
+            slotRepository.deleteAllInBatch(slots);
+            account.clearHot();
+            return account.getId();
+        });
+
+        hotAccounts.remove(accountId);
+        log.info("Hot account released - accountNumber: {}", accountNumber);
+    }
+
+    /**
+     * Align the database with banking.account.hot.account-numbers on startup
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void synchronizeDesignations() {
+        Set<String> configured = new HashSet<>(accountProperties.getHot().getAccountNumbers());
+
+        for (Account account : accountRepository.findByHotTrue()) {
+            if (!configured.contains(account.getAccountNumber())) {
+                release(account.getAccountNumber());
+            }
+        }
+        for (String accountNumber : configured) {
+            try {
+                designate(accountNumber);
+            } catch (EntityNotFoundException e) {
+                log.warn("Configured hot account does not exist - accountNumber: {}", accountNumber);
+            }
+        }
+    }
+
+    private Account lockByAccountNumber(String accountNumber) {
+        return accountRepository.findByAccountNumberWithLock(accountNumber)
+                .orElseThrow(() -> new EntityNotFoundException("Account not found."));
+    }
+}
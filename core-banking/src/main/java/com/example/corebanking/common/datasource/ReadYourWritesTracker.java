@@ -0,0 +1,39 @@
+package com.example.corebanking.common.datasource;
+
+import com.example.corebanking.config.DataSourceRoutingProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Users who wrote within the last banking.datasource.read-your-writes.window
+ * Their read-only transactions are sent to the primary (see ReplicaFallbackDataSource).
+ * Only the writer is pinned: the recipient of a transfer may still read a lagging replica.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private final boolean enabled;
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(DataSourceRoutingProperties properties) {
+        Duration window = properties.getReadYourWrites().getWindow();
+        this.enabled = properties.getReplica().isEnabled() && window.isPositive();
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(properties.getReadYourWrites().getMaximumSize())
+                .expireAfterWrite(enabled ? window : Duration.ofMillis(1))
+                .build();
+    }
+
+    public void markWrite(String userUuid) {
+        if (enabled && userUuid != null) {
+            recentWriters.put(userUuid, Boolean.TRUE);
+        }
+    }
+
+    public boolean isPinned(String userUuid) {
+        return enabled && userUuid != null && recentWriters.getIfPresent(userUuid) != null;
+    }
+}
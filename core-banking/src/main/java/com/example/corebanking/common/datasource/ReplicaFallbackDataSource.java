@@ -0,0 +1,102 @@
+package com.example.corebanking.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Target of read-only connections (LazyConnectionDataSourceProxy#setReadOnlyDataSource)
+ *
+ * - Replica by default
+ * - Primary when the current user wrote recently (ReadYourWritesTracker)
+ * - Primary when the replica refused a connection, for retry-after, instead of failing the read
+ *
+ * banking_datasource_read_route_total{target="replica|primary", reason="replica|read_your_writes|replica_unavailable"}
+ */
+@Slf4j
+public class ReplicaFallbackDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final long retryAfterNanos;
+
+    private final Counter replicaRoutes;
+    private final Counter readYourWritesRoutes;
+    private final Counter unavailableRoutes;
+
+    // System.nanoTime() before which the replica is skipped
+    private volatile long replicaRetryAt = System.nanoTime();
+
+    public ReplicaFallbackDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker readYourWritesTracker,
+                                     Duration retryAfter, MeterRegistry registry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.retryAfterNanos = retryAfter.toNanos();
+
+        this.replicaRoutes = routeCounter(registry, "replica", "replica");
+        this.readYourWritesRoutes = routeCounter(registry, "primary", "read_your_writes");
+        this.unavailableRoutes = routeCounter(registry, "primary", "replica_unavailable");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionSource source) throws SQLException {
+        if (readYourWritesTracker.isPinned(currentUser())) {
+            readYourWritesRoutes.increment();
+            return source.from(primary);
+        }
+
+        if (System.nanoTime() - replicaRetryAt < 0) {
+            unavailableRoutes.increment();
+            return source.from(primary);
+        }
+
+        try {
+            Connection connection = source.from(replica);
+            replicaRoutes.increment();
+            return connection;
+        } catch (SQLException e) {
+            replicaRetryAt = System.nanoTime() + retryAfterNanos;
+            log.warn("Replica unavailable, reading from the primary for {} ms - cause: {}",
+                    retryAfterNanos / 1_000_000, e.getMessage());
+            unavailableRoutes.increment();
+            return source.from(primary);
+        }
+    }
+
+    private String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : null;
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection from(DataSource dataSource) throws SQLException;
+    }
+
+    private static Counter routeCounter(MeterRegistry registry, String target, String reason) {
+        return Counter.builder("banking_datasource_read_route_total")
+                .tag("target", target)
+                .tag("reason", reason)
+                .description("Read-only connections by target database")
+                .register(registry);
+    }
+}
@@ -4,6 +4,8 @@ import com.example.corebanking.common.ApiResponse;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -89,6 +91,37 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("Data conflict occurred. The request may have been already processed."));
     }
 
+    /**
+     * 409 - Optimistic lock conflict (Retries exhausted)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLocking(OptimisticLockingFailureException e) {
+        log.warn("Optimistic lock conflict: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("The account was updated concurrently. Please try again."));
+    }
+
+    /**
+     * 503 - Account lane busy (Client may retry with the same transactionId)
+     */
+    @ExceptionHandler(TransferBusyException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTransferBusy(TransferBusyException e) {
+        log.warn("Transfer busy: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error(e.getMessage()));
+    }
+
+    /**
+     * 429 - Asynchronous transfer queue full (Client may resubmit the same transactionId)
+     */
+    @ExceptionHandler(TransferQueueFullException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTransferQueueFull(TransferQueueFullException e) {
+        log.warn("Transfer queue full: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error(e.getMessage()));
+    }
+
     /**
      * 500 - Unexpected server error
      */
@@ -0,0 +1,12 @@
+package com.example.corebanking.common.exception;
+
+/**
+ * Thrown when a transfer could not get its turn on a busy account in time.
+ * The client may retry with the same transactionId.
+ */
+public class TransferBusyException extends RuntimeException {
+
+    public TransferBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.corebanking.common.exception;
+
+/**
+ * Thrown when the asynchronous transfer queue is full.
+ * Nothing was stored, so the client may resubmit the same transactionId later.
+ */
+public class TransferQueueFullException extends RuntimeException {
+
+    public TransferQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.corebanking.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Replacement of @GeneratedValue(IDENTITY) that lets Hibernate batch the INSERTs:
+ * the id is assigned before the statement runs (see TimeOrderedIdGenerator)
+ */
+@Documented
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TimeOrderedId {
+}
@@ -0,0 +1,76 @@
+package com.example.corebanking.common.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered 64-bit id: | 41 bits millis since 2024-01-01 | 10 bits node id | 12 bits sequence |
+ *
+ * - Ids grow with time, so inserts stay at the right edge of the primary key index
+ * - The node id (0..1023) must be unique per running instance: spring.jpa.properties.banking.id.node-id
+ * - Up to 4096 ids per millisecond; beyond that (or when the clock goes back) the next millisecond is borrowed
+ */
+public class TimeOrderedIdGenerator implements BeforeExecutionGenerator {
+
+    public static final String NODE_ID_SETTING = "banking.id.node-id";
+
+    static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    // (millis << SEQUENCE_BITS | sequence) of the last id, shared by every entity of this JVM
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private final long nodeId;
+
+    public TimeOrderedIdGenerator(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    // Called by Hibernate for @TimeOrderedId
+    public TimeOrderedIdGenerator(TimeOrderedId config, Member member, CustomIdGeneratorCreationContext context) {
+        this(nodeIdOf(context));
+    }
+
+    public long nextId() {
+        long now = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long next = LAST.accumulateAndGet(now, (last, candidate) -> Math.max(last + 1, candidate));
+
+        long millis = next >>> SEQUENCE_BITS;
+        long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+        return millis << (NODE_BITS + SEQUENCE_BITS) | nodeId << SEQUENCE_BITS | sequence;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    private static long nodeIdOf(GeneratorCreationContext context) {
+        Object value = context.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSettings()
+                .get(NODE_ID_SETTING);
+        return value == null ? 0 : Long.parseLong(value.toString().trim());
+    }
+}
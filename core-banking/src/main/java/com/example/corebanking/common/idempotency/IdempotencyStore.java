@@ -0,0 +1,22 @@
+package com.example.corebanking.common.idempotency;
+
+import java.time.Duration;
+
+/**
+ * Reservation of client-generated transaction IDs before the DB transaction opens.
+ * The unique constraint on transfers.transaction_id stays as the final backstop
+ * (e.g. after a reservation expired or the store was unavailable).
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Set-if-absent with TTL
+     * @return true if the key was reserved by this call, false if it is already taken
+     */
+    boolean reserve(String key, Duration ttl);
+
+    /**
+     * Give the key back (the transfer failed and nothing was committed)
+     */
+    void release(String key);
+}
@@ -0,0 +1,46 @@
+package com.example.corebanking.common.idempotency;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Single-node / test implementation (banking.transfer.idempotency.store=memory)
+ * Expired keys are purged lazily every PURGE_INTERVAL reservations.
+ */
+@Component
+@ConditionalOnProperty(name = "banking.transfer.idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private static final int PURGE_INTERVAL = 1024;
+
+    // key -> expiry (System.nanoTime based)
+    private final Map<String, Long> reservations = new ConcurrentHashMap<>();
+    private final AtomicInteger reserveCount = new AtomicInteger();
+
+    @Override
+    public boolean reserve(String key, Duration ttl) {
+        long now = System.nanoTime();
+        long expiresAt = now + ttl.toNanos();
+
+        if (reserveCount.incrementAndGet() % PURGE_INTERVAL == 0) {
+            reservations.values().removeIf(expiry -> expiry - now <= 0);
+        }
+
+        Long previous = reservations.putIfAbsent(key, expiresAt);
+        if (previous == null) {
+            return true;
+        }
+        // Taken by a reservation that has already expired -> take it over atomically
+        return previous - now <= 0 && reservations.replace(key, previous, expiresAt);
+    }
+
+    @Override
+    public void release(String key) {
+        reservations.remove(key);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.corebanking.common.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Multi-instance implementation (banking.transfer.idempotency.store=redis)
+ * "SET key 1 NX PX ttl" - shared by every core-banking instance.
+ *
+ * When Redis is unavailable the reservation is skipped (fail-open) and duplicates
+ * are still rejected by the unique constraint on transfers.transaction_id.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "banking.transfer.idempotency.store", havingValue = "redis")
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final String KEY_PREFIX = "banking:transfer:tx:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public boolean reserve(String key, Duration ttl) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, "1", ttl));
+        } catch (DataAccessException e) {
+            log.warn("Redis unavailable, falling back to DB unique constraint - key: {}, cause: {}", key, e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public void release(String key) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + key);
+        } catch (DataAccessException e) {
+            log.warn("Failed to release idempotency key - key: {}, cause: {}", key, e.getMessage());
+        }
+    }
+}
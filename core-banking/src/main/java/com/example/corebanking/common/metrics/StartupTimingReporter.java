@@ -0,0 +1,76 @@
+package com.example.corebanking.common.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Startup timing report (compare the plain image with Dockerfile.cds)
+ * - banking_startup_ready_seconds : JVM start -> ApplicationReadyEvent
+ * - banking_startup_first_request_seconds : Latency of the first request served
+ * Both are also logged once, together with whether AOT and a CDS archive were used.
+ */
+@Slf4j
+@Component
+public class StartupTimingReporter extends OncePerRequestFilter {
+
+    private final AtomicBoolean firstRequestSeen = new AtomicBoolean();
+    private volatile double readySeconds = Double.NaN;
+    private volatile double firstRequestSeconds = Double.NaN;
+
+    public StartupTimingReporter(MeterRegistry registry) {
+        Gauge.builder("banking_startup_ready", this, r -> r.readySeconds)
+                .description("Time from JVM start until the application was ready")
+                .baseUnit("seconds")
+                .register(registry);
+
+        Gauge.builder("banking_startup_first_request", this, r -> r.firstRequestSeconds)
+                .description("Latency of the first request after startup")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        readySeconds = runtime.getUptime() / 1000.0;
+
+        boolean cds = runtime.getInputArguments().stream().anyMatch(arg -> arg.startsWith("-XX:SharedArchiveFile"));
+        log.info("Startup report - ready in {} ms (aot: {}, cds: {})",
+                runtime.getUptime(), AotDetector.useGeneratedArtifacts(), cds);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // Every request after the first one only pays for this volatile read
+        if (firstRequestSeen.get() || !firstRequestSeen.compareAndSet(false, true)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            firstRequestSeconds = millis / 1000.0;
+            log.info("Startup report - first request {} {} took {} ms", request.getMethod(), request.getRequestURI(), millis);
+        }
+    }
+}
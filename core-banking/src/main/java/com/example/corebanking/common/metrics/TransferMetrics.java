@@ -1,36 +1,105 @@
 package com.example.corebanking.common.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Custom metrics for transfer
  * The following metrics are collected by Prometheus:
- * - banking_transfer_total{result="success|fail"} : The number of successful/failed transfers
+ * - banking_transfer_total{result="success|fail", exception="none|<ExceptionType>"} : The number of successful/failed transfers
  * - banking_transfer_duration_seconds : Transfer processing time
+ * - banking_transfer_phase_seconds{phase="idempotency|resolve|lock|mutation|history|commit"} : Time per phase (see TransferPhase)
+ * - banking_transfer_lane_wait_seconds : Time spent queued in the per-account lane
+ * - banking_transfer_lane_timeout_total : Transfers rejected because the lane was busy
+ * - banking_transfer_optimistic_conflict_total : Version conflicts in the OPTIMISTIC strategy
+ * - banking_transfer_retry_total : Retries after a version conflict
+ * - banking_transfer_async_rejected_total : Submissions refused because the queue was full
+ * - banking_transfer_in_flight : Transfers currently being processed (compare with hikaricp_connections_active/pending)
+ * Phases are recorded for single transfers only (a batch would skew the per-transfer percentiles).
+ * Timers publish histogram buckets plus the SLO boundaries below, so p99 can be computed per phase.
  */
 @Component
 public class TransferMetrics {
 
+    private static final Duration[] SLO = {
+            Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25),
+            Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500),
+            Duration.ofSeconds(1), Duration.ofSeconds(5)
+    };
+
+    private final MeterRegistry registry;
     private final Counter successCounter;
-    private final Counter failCounter;
+    private final Map<Class<?>, Counter> failCounters = new ConcurrentHashMap<>();
     private final Timer transferTimer;
+    private final Map<TransferPhase, Timer> phaseTimers = new EnumMap<>(TransferPhase.class);
+    private final Timer laneWaitTimer;
+    private final Counter laneTimeoutCounter;
+    private final Counter optimisticConflictCounter;
+    private final Counter retryCounter;
+    private final Counter asyncRejectedCounter;
+    private final AtomicInteger inFlight = new AtomicInteger();
 
     public TransferMetrics(MeterRegistry registry) {
+        this.registry = registry;
+
         this.successCounter = Counter.builder("banking_transfer_total")
                 .tag("result", "success")
+                .tag("exception", "none")
                 .description("Total successful transfers")
                 .register(registry);
 
-        this.failCounter = Counter.builder("banking_transfer_total")
-                .tag("result", "fail")
-                .description("Total failed transfers")
-                .register(registry);
-
         this.transferTimer = Timer.builder("banking_transfer_duration")
                 .description("Transfer processing duration")
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(SLO)
+                .register(registry);
+
+        for (TransferPhase phase : TransferPhase.values()) {
+            phaseTimers.put(phase, Timer.builder("banking_transfer_phase")
+                    .tag("phase", phase.tag())
+                    .description("Transfer processing duration per phase")
+                    .publishPercentileHistogram()
+                    .serviceLevelObjectives(SLO)
+                    .register(registry));
+        }
+
+        this.laneWaitTimer = Timer.builder("banking_transfer_lane_wait")
+                .description("Time spent waiting for the per-account transfer lane")
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(SLO)
+                .register(registry);
+
+        this.laneTimeoutCounter = Counter.builder("banking_transfer_lane_timeout_total")
+                .description("Transfers rejected because the account lane was busy")
+                .register(registry);
+
+        this.optimisticConflictCounter = Counter.builder("banking_transfer_optimistic_conflict_total")
+                .description("Version conflicts detected by the optimistic transfer strategy")
+                .register(registry);
+
+        this.retryCounter = Counter.builder("banking_transfer_retry_total")
+                .description("Transfer attempts retried after a version conflict")
+                .register(registry);
+
+        this.asyncRejectedCounter = Counter.builder("banking_transfer_async_rejected_total")
+                .description("Transfer submissions refused because the queue was full")
+                .register(registry);
+
+        Gauge.builder("banking_transfer_in_flight", inFlight, AtomicInteger::get)
+                .description("Transfers currently being processed")
                 .register(registry);
     }
 
@@ -38,15 +107,82 @@ public class TransferMetrics {
         successCounter.increment();
     }
 
-    public void recordFailure() {
-        failCounter.increment();
+    public void recordFailure(Throwable cause) {
+        recordFailure(cause.getClass());
+    }
+
+    public void recordFailure(Class<? extends Throwable> exceptionType) {
+        failCounters.computeIfAbsent(exceptionType, type -> Counter.builder("banking_transfer_total")
+                .tag("result", "fail")
+                .tag("exception", type.getSimpleName())
+                .description("Total failed transfers")
+                .register(registry)).increment();
+    }
+
+    public void recordPhase(TransferPhase phase, long nanos) {
+        phaseTimers.get(phase).record(nanos, TimeUnit.NANOSECONDS);
     }
 
     public Timer.Sample startTimer() {
+        inFlight.incrementAndGet();
         return Timer.start();
     }
 
     public void stopTimer(Timer.Sample sample) {
+        inFlight.decrementAndGet();
         sample.stop(transferTimer);
     }
+
+    public <T> T time(TransferPhase phase, Supplier<T> work) {
+        return phaseTimers.get(phase).record(work);
+    }
+
+    public void time(TransferPhase phase, Runnable work) {
+        phaseTimers.get(phase).record(work);
+    }
+
+    /**
+     * Time the commit of the current transaction (flush + commit, between beforeCompletion and afterCompletion)
+     * Call from inside the transaction; does nothing without transaction synchronization.
+     */
+    public void timeCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long start;
+
+            @Override
+            public void beforeCompletion() {
+                start = System.nanoTime();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    phaseTimers.get(TransferPhase.COMMIT).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+        });
+    }
+
+    public void recordLaneWait(long nanos) {
+        laneWaitTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLaneTimeout() {
+        laneTimeoutCounter.increment();
+    }
+
+    public void recordOptimisticConflict() {
+        optimisticConflictCounter.increment();
+    }
+
+    public void recordRetry() {
+        retryCounter.increment();
+    }
+
+    public void recordAsyncRejected() {
+        asyncRejectedCounter.increment();
+    }
 }
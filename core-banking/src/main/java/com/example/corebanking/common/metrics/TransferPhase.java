@@ -0,0 +1,30 @@
+package com.example.corebanking.common.metrics;
+
+/**
+ * Phases of a transfer, timed as banking_transfer_phase_seconds{phase="..."}
+ * (waiting for the in-process lane is banking_transfer_lane_wait_seconds)
+ */
+public enum TransferPhase {
+    // transactionId reservation (IdempotencyStore)
+    IDEMPOTENCY("idempotency"),
+    // userUuid / accountNumber -> id (AccountIdentityCache)
+    RESOLVE("resolve"),
+    // Loading the account rows: FOR UPDATE wait in PESSIMISTIC, plain read in OPTIMISTIC
+    LOCK("lock"),
+    // withdraw / deposit and the UPDATE statements (CONDITIONAL_UPDATE: row lock wait is included here)
+    MUTATION("mutation"),
+    // INSERT into transfers
+    HISTORY("history"),
+    // Transaction commit (log flush / fsync)
+    COMMIT("commit");
+
+    private final String tag;
+
+    TransferPhase(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
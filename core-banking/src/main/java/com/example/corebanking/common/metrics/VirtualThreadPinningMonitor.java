@@ -0,0 +1,91 @@
+package com.example.corebanking.common.metrics;
+
+import com.example.corebanking.config.ThreadingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports virtual threads that pin their carrier thread (JFR jdk.VirtualThreadPinned)
+ *
+ * A pinned virtual thread blocks its OS carrier while it waits (e.g. blocking inside
+ * a synchronized block), which silently brings back the platform-thread limit.
+ * Only active when spring.threads.virtual.enabled=true.
+ * - banking_virtual_thread_pinned_total : Pinning events longer than the threshold
+ * - banking_virtual_thread_pinned_seconds : How long the carrier was held
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final ThreadingProperties.Pinning pinning;
+    private final Counter pinnedCounter;
+    private final Timer pinnedTimer;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(ThreadingProperties threadingProperties, MeterRegistry registry) {
+        this.pinning = threadingProperties.getPinning();
+
+        this.pinnedCounter = Counter.builder("banking_virtual_thread_pinned_total")
+                .description("Virtual threads that pinned their carrier thread")
+                .register(registry);
+
+        this.pinnedTimer = Timer.builder("banking_virtual_thread_pinned")
+                .description("Time a pinned virtual thread held its carrier thread")
+                .register(registry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!pinning.isEnabled()) {
+            return;
+        }
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(pinning.getThreshold()).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning monitor started - threshold: {}", pinning.getThreshold());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        pinnedTimer.record(event.getDuration());
+        log.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), topFrame(event));
+    }
+
+    // First application frame is the useful one; fall back to the top of the stack
+    private String topFrame(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        RecordedFrame top = stackTrace.getFrames().get(0);
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.getMethod().getType().getName().startsWith("com.example.corebanking")) {
+                top = frame;
+                break;
+            }
+        }
+        return top.getMethod().getType().getName() + "." + top.getMethod().getName() + ":" + top.getLineNumber();
+    }
+}
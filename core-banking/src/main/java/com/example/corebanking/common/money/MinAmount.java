@@ -0,0 +1,29 @@
+package com.example.corebanking.common.money;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Bean Validation counterpart of @Min for Money (null is valid, as with @Min)
+ */
+@Documented
+@Constraint(validatedBy = MinAmountValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MinAmount {
+
+    // In major units, e.g. 1000 for 1,000 yen
+    long value();
+
+    String message() default "must be greater than or equal to {value}";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,19 @@
+package com.example.corebanking.common.money;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class MinAmountValidator implements ConstraintValidator<MinAmount, Money> {
+
+    private Money min;
+
+    @Override
+    public void initialize(MinAmount constraint) {
+        this.min = Money.of(constraint.value());
+    }
+
+    @Override
+    public boolean isValid(Money value, ConstraintValidatorContext context) {
+        return value == null || !value.isLessThan(min);
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.corebanking.common.money;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable amount of money held as a long count of minor units (scale 2)
+ *
+ * Balances and transfer amounts are compared and added on a primitive long, so
+ * the transfer path does not allocate BigDecimal. BigDecimal only appears at the
+ * JDBC boundary (MoneyConverter) where the DECIMAL columns are read and written.
+ * Arithmetic is overflow-checked and never rounds.
+ */
+public record Money(long minorUnits) implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    private static final long MINOR_PER_MAJOR = 100;
+
+    public static final Money ZERO = new Money(0);
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    public static Money of(long majorUnits) {
+        return ofMinor(Math.multiplyExact(majorUnits, MINOR_PER_MAJOR));
+    }
+
+    /**
+     * @throws IllegalArgumentException More than two fraction digits or out of the long range
+     */
+    public static Money of(BigDecimal amount) {
+        try {
+            return ofMinor(amount.movePointRight(SCALE).longValueExact());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Invalid amount: " + amount.toPlainString());
+        }
+    }
+
+    /**
+     * Parse a plain decimal such as "1000", "-12.5" or "0.01" without going through BigDecimal
+     * @throws IllegalArgumentException Not a plain decimal, more than two fraction digits or overflow
+     */
+    public static Money parse(String text) {
+        int length = text.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+')) {
+            negative = text.charAt(0) == '-';
+            i++;
+        }
+
+        long value = 0;
+        int fractionDigits = -1; // -1 : no decimal point seen yet
+        boolean digits = false;
+        try {
+            for (; i < length; i++) {
+                char c = text.charAt(i);
+                if (c == '.' && fractionDigits < 0) {
+                    fractionDigits = 0;
+                    continue;
+                }
+                if (c < '0' || c > '9') {
+                    throw new IllegalArgumentException("Invalid amount: " + text);
+                }
+                if (fractionDigits >= 0 && ++fractionDigits > SCALE) {
+                    // Trailing zeros beyond the scale are harmless ("1.500")
+                    if (c != '0') {
+                        throw new IllegalArgumentException("Invalid amount: " + text);
+                    }
+                    continue;
+                }
+                value = Math.addExact(Math.multiplyExact(value, 10), c - '0');
+                digits = true;
+            }
+            if (!digits) {
+                throw new IllegalArgumentException("Invalid amount: " + text);
+            }
+            for (int f = Math.max(fractionDigits, 0); f < SCALE; f++) {
+                value = Math.multiplyExact(value, 10);
+            }
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Invalid amount: " + text);
+        }
+        return ofMinor(negative ? -value : value);
+    }
+
+    public Money add(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money subtract(Money other) {
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    public boolean isLessThan(Money other) {
+        return minorUnits < other.minorUnits;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    /**
+     * Plain decimal with two fraction digits ("1000.00", "-0.05")
+     */
+    @Override
+    public String toString() {
+        long major = Math.abs(minorUnits / MINOR_PER_MAJOR);
+        long minor = Math.abs(minorUnits % MINOR_PER_MAJOR);
+        return (minorUnits < 0 ? "-" : "") + major + (minor < 10 ? ".0" : ".") + minor;
+    }
+}
@@ -7,6 +7,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
@@ -14,6 +15,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.regex.Pattern;
 
 /**
  * Gateway-Integrated Auth Filter
@@ -24,18 +26,42 @@ import java.util.Collections;
  *
  * [Via Gateway] Client → Gateway(JWT Verification) → X-User-UUID attach → core-banking(Header Reference)
  * [Direct Access] Client → core-banking(JWT Verification)
+ *
+ * X-Trace-Id (generated by API Gateway) is put in the MDC as "traceId" for the rest of the request
  */
 @Slf4j
 @RequiredArgsConstructor
 public class GatewayAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String GATEWAY_USER_HEADER = "X-User-UUID";
+    private static final String TRACE_ID_HEADER = "X-Trace-Id";
+    private static final String TRACE_ID_MDC_KEY = "traceId";
+    // Same format the gateway enforces (keeps log lines clean for direct callers too)
+    private static final Pattern VALID_TRACE_ID = Pattern.compile("[A-Za-z0-9-]{1,64}");
     private final JwtProvider jwtProvider;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
+        // Logged with every line of this request (logging.pattern.level)
+        String traceId = request.getHeader(TRACE_ID_HEADER);
+        boolean traced = traceId != null && VALID_TRACE_ID.matcher(traceId).matches();
+        if (traced) {
+            MDC.put(TRACE_ID_MDC_KEY, traceId);
+        }
+
+        try {
+            authenticate(request);
+            filterChain.doFilter(request, response);
+        } finally {
+            if (traced) {
+                MDC.remove(TRACE_ID_MDC_KEY);
+            }
+        }
+    }
+
+    private void authenticate(HttpServletRequest request) {
         String userUuid = null;
 
         // 1: X-User-UUID header forwarded from API Gateway
@@ -60,8 +86,6 @@ public class GatewayAuthenticationFilter extends OncePerRequestFilter {
                     new UsernamePasswordAuthenticationToken(userUuid, null, Collections.emptyList());
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
-
-        filterChain.doFilter(request, response);
     }
 
     private String resolveToken(HttpServletRequest request) {
@@ -0,0 +1,83 @@
+package com.example.corebanking.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Account tuning options (banking.account.*)
+ */
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "banking.account")
+public class AccountProperties {
+
+    private IdentityCache identityCache = new IdentityCache();
+    private Hot hot = new Hot();
+    private NumberBlock numberBlock = new NumberBlock();
+    private Bulk bulk = new Bulk();
+    private ResponseCache responseCache = new ResponseCache();
+
+    /**
+     * userUuid / accountNumber -> id cache used by the transfer path
+     */
+    @Setter
+    @Getter
+    public static class IdentityCache {
+        private long maximumSize = 100_000;
+        // Unknown account numbers (negative cache)
+        private long negativeMaximumSize = 10_000;
+        private Duration negativeTtl = Duration.ofSeconds(30);
+    }
+
+    /**
+     * GET /banking/accounts/me and /{accountNumber} responses, dropped when a transfer commits
+     */
+    @Setter
+    @Getter
+    public static class ResponseCache {
+        private long maximumSize = 100_000;
+        // Upper bound for changes this instance is not told about (other instances, replica lag)
+        private Duration maxStaleness = Duration.ofSeconds(5);
+    }
+
+    /**
+     * Accounts whose balance is sharded over sub-ledger slots
+     * Removing an account from the list folds its slots back into the balance on the next startup.
+     */
+    @Setter
+    @Getter
+    public static class Hot {
+        private List<String> accountNumbers = new ArrayList<>();
+        private int slots = 16;
+    }
+
+    /**
+     * Account number serials leased per round trip to account_number_blocks
+     * Unused serials of a block are skipped on restart.
+     */
+    @Setter
+    @Getter
+    public static class NumberBlock {
+        private int size = 1000;
+    }
+
+    /**
+     * POST /banking/accounts/bulk
+     */
+    @Setter
+    @Getter
+    public static class Bulk {
+        // Rows per JDBC batch (and per transaction)
+        private int batchSize = 500;
+        private int maxReportedFailures = 1000;
+        // userUuids allowed to open accounts on behalf of others
+        private List<String> operators = new ArrayList<>();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.corebanking.config;
+
+import com.example.corebanking.common.datasource.ReadYourWritesTracker;
+import com.example.corebanking.common.datasource.ReplicaFallbackDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Read/write split (banking.datasource.replica.enabled=true)
+ *
+ * The application DataSource is a LazyConnectionDataSourceProxy: the physical connection is
+ * only fetched at the first statement, once the transaction manager has marked it read-only or not.
+ * - read-write transactions (and non-transactional access) -> primary (spring.datasource.*)
+ * - @Transactional(readOnly = true)                         -> ReplicaFallbackDataSource
+ * Both pools publish hikaricp_* metrics under their pool names (primary / replica).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "banking.datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceRoutingProperties properties) {
+        DataSourceRoutingProperties.Replica replica = properties.getReplica();
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.getUrl())
+                .username(replica.getUsername())
+                .password(replica.getPassword())
+                .driverClassName(replica.getDriverClassName())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+        dataSource.setReadOnly(true);
+        // Start even when the replica is down; reads fall back to the primary
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                                 ReadYourWritesTracker readYourWritesTracker, DataSourceRoutingProperties properties,
+                                 MeterRegistry meterRegistry) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(new ReplicaFallbackDataSource(primaryDataSource, replicaDataSource,
+                readYourWritesTracker, properties.getReplica().getRetryAfter(), meterRegistry));
+        return proxy;
+    }
+}
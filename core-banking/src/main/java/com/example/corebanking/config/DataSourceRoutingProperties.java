@@ -0,0 +1,50 @@
+package com.example.corebanking.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Read replica routing options (banking.datasource.*)
+ */
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "banking.datasource")
+public class DataSourceRoutingProperties {
+
+    private Replica replica = new Replica();
+    private ReadYourWrites readYourWrites = new ReadYourWrites();
+
+    /**
+     * Pool used by @Transactional(readOnly = true); the primary is spring.datasource.*
+     */
+    @Setter
+    @Getter
+    public static class Replica {
+        private boolean enabled = false;
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+        // Kept short: a missing replica must not stall reads for Hikari's default 30s
+        private Duration connectionTimeout = Duration.ofMillis(500);
+        // Reads go to the primary for this long after the replica refused a connection
+        private Duration retryAfter = Duration.ofSeconds(5);
+    }
+
+    /**
+     * Reads of a user stay on the primary for a while after their own write (replication lag)
+     */
+    @Setter
+    @Getter
+    public static class ReadYourWrites {
+        // 0 disables pinning
+        private Duration window = Duration.ofSeconds(2);
+        private long maximumSize = 100_000;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.corebanking.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+/**
+ * Kept off the application class so slice tests (@JsonTest, ...) do not need JPA
+ */
+@Configuration
+@EnableJpaAuditing
+public class JpaAuditingConfig {
+}
@@ -4,6 +4,7 @@ import com.example.corebanking.common.security.GatewayAuthenticationFilter;
 import com.example.corebanking.common.security.JwtAuthenticationEntryPoint;
 import com.example.corebanking.common.security.JwtAuthenticationFilter;
 import com.example.corebanking.global.security.JwtProvider;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -41,6 +42,8 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         // Allow CORS preflight request
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        // Completion dispatch of streamed responses (already authorized on the request)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // allow Actuator health check
                         .requestMatchers("/actuator/health").permitAll()
                         // Allow Swagger UI
@@ -0,0 +1,32 @@
+package com.example.corebanking.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Virtual thread diagnostics (banking.threads.*)
+ * Virtual threads themselves are switched on with spring.threads.virtual.enabled.
+ */
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "banking.threads")
+public class ThreadingProperties {
+
+    private Pinning pinning = new Pinning();
+
+    /**
+     * JFR jdk.VirtualThreadPinned listener
+     */
+    @Setter
+    @Getter
+    public static class Pinning {
+        private boolean enabled = true;
+        // Only pins that block the carrier longer than this are reported
+        private Duration threshold = Duration.ofMillis(20);
+    }
+}
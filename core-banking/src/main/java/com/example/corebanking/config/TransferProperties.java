@@ -0,0 +1,101 @@
+package com.example.corebanking.config;
+
+import com.example.corebanking.transfer.service.TransferMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Transfer tuning options (banking.transfer.*)
+ */
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "banking.transfer")
+public class TransferProperties {
+
+    private TransferMode strategy = TransferMode.PESSIMISTIC;
+    private Lane lane = new Lane();
+    private Batch batch = new Batch();
+    private Optimistic optimistic = new Optimistic();
+    private Idempotency idempotency = new Idempotency();
+    private History history = new History();
+    private Export export = new Export();
+    private Async async = new Async();
+
+    /**
+     * In-process striped lane that orders transfers touching the same account
+     * before a DB transaction (and a pooled connection) is opened.
+     */
+    @Setter
+    @Getter
+    public static class Lane {
+        private boolean enabled = true;
+        // Rounded up to a power of two
+        private int stripes = 256;
+        private long timeoutMs = 5000;
+    }
+
+    @Setter
+    @Getter
+    public static class Batch {
+        // Upper bound of items per POST /banking/transfers/batch
+        private int maxSize = 1000;
+    }
+
+    /**
+     * Retry policy of the OPTIMISTIC strategy
+     */
+    @Setter
+    @Getter
+    public static class Optimistic {
+        private int maxAttempts = 5;
+        private long backoffMs = 10;
+        private long maxBackoffMs = 200;
+    }
+
+    /**
+     * transactionId reservation in front of the DB transaction
+     */
+    @Setter
+    @Getter
+    public static class Idempotency {
+        // memory | redis
+        private String store = "memory";
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+
+    /**
+     * GET /banking/transfers/me paging
+     */
+    @Setter
+    @Getter
+    public static class History {
+        private int defaultPageSize = 20;
+        private int maxPageSize = 100;
+    }
+
+    /**
+     * GET /banking/transfers/me/export streaming
+     */
+    @Setter
+    @Getter
+    public static class Export {
+        // Rows per cursor round trip
+        private int fetchSize = 500;
+    }
+
+    /**
+     * Background execution of POST /banking/transfers/submissions
+     */
+    @Setter
+    @Getter
+    public static class Async {
+        // Bounded on purpose: a full queue answers 429 instead of piling up lock waits
+        private int workers = 8;
+        private int queueCapacity = 1000;
+    }
+}
@@ -1,17 +1,25 @@
 package com.example.corebanking.transfer.controller;
 
 import com.example.corebanking.common.ApiResponse;
+import com.example.corebanking.transfer.dto.BatchTransferRequest;
+import com.example.corebanking.transfer.dto.BatchTransferResponse;
 import com.example.corebanking.transfer.dto.TransferRequest;
-import com.example.corebanking.transfer.dto.TransferResponse;
+import com.example.corebanking.transfer.dto.TransferPageResponse;
+import com.example.corebanking.transfer.dto.TransferSubmissionResponse;
+import com.example.corebanking.transfer.service.TransferExportService;
+import com.example.corebanking.transfer.service.TransferExportService.ExportFormat;
 import com.example.corebanking.transfer.service.TransferService;
+import com.example.corebanking.transfer.service.TransferSubmissionService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/banking/transfers")
@@ -20,6 +28,8 @@ import java.util.List;
 public class TransferController {
 
     private final TransferService transferService;
+    private final TransferExportService transferExportService;
+    private final TransferSubmissionService transferSubmissionService;
 
     @PostMapping
     public ResponseEntity<String> transfer(
@@ -29,10 +39,71 @@ public class TransferController {
         return ResponseEntity.ok("Transfer completed successfully. Transaction ID : " + txId);
     }
 
+    /**
+     * Asynchronous transfer API (202 Accepted, poll the status; 429 when the queue is full)
+     * Request : POST /api/v1/banking/transfers/submissions
+     */
+    @PostMapping("/submissions")
+    public ResponseEntity<ApiResponse<TransferSubmissionResponse>> submitTransfer(
+            @AuthenticationPrincipal String userUuid,
+            @RequestBody @Valid TransferRequest request) {
+        TransferSubmissionResponse response = transferSubmissionService.submit(userUuid, request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .header(HttpHeaders.LOCATION, "/api/v1/banking/transfers/submissions/" + response.transactionId())
+                .body(ApiResponse.success(response));
+    }
+
+    /**
+     * Asynchronous transfer status API (PENDING / COMPLETED / FAILED)
+     * Request : GET /api/v1/banking/transfers/submissions/{transactionId}
+     */
+    @GetMapping("/submissions/{transactionId}")
+    public ApiResponse<TransferSubmissionResponse> getSubmission(
+            @AuthenticationPrincipal String userUuid,
+            @PathVariable String transactionId) {
+        return ApiResponse.success(transferSubmissionService.getSubmission(userUuid, transactionId));
+    }
+
+    /**
+     * Batch transfer API (Settlement jobs)
+     * Request : POST /api/v1/banking/transfers/batch
+     */
+    @PostMapping("/batch")
+    public ApiResponse<BatchTransferResponse> transferBatch(
+            @AuthenticationPrincipal String userUuid,
+            @RequestBody @Valid BatchTransferRequest request) {
+        BatchTransferResponse response = transferService.transferBatch(userUuid, request.transfers());
+        return ApiResponse.success(response);
+    }
+
+    /**
+     * Transfer history API (newest first, keyset pagination)
+     * Request : GET /api/v1/banking/transfers/me?size=20&cursor={nextCursor}
+     */
     @GetMapping("/me")
-    public ApiResponse<List<TransferResponse>> getMyTransfers(
-            @AuthenticationPrincipal String userUuid) {
-        List<TransferResponse> transfers = transferService.getTransfersByUser(userUuid);
+    public ApiResponse<TransferPageResponse> getMyTransfers(
+            @AuthenticationPrincipal String userUuid,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        TransferPageResponse transfers = transferService.getTransfersByUser(userUuid, cursor, size);
         return ApiResponse.success(transfers);
     }
+
+    /**
+     * Full transfer history export (newest first, streamed row by row)
+     * Request : GET /api/v1/banking/transfers/me/export?format=ndjson|csv
+     */
+    @GetMapping("/me/export")
+    public ResponseEntity<StreamingResponseBody> exportMyTransfers(
+            @AuthenticationPrincipal String userUuid,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        StreamingResponseBody body = out -> transferExportService.export(userUuid, exportFormat, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"transfers." + exportFormat.extension() + "\"")
+                .body(body);
+    }
 }
@@ -0,0 +1,42 @@
+package com.example.corebanking.transfer.domain;
+
+import com.example.corebanking.account.domain.Account;
+import com.example.corebanking.common.exception.TransferBusyException;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+/**
+ * Reason code stored on a FAILED submission and returned to the client
+ * Fixed codes only: exception messages (SQL, internal state) are logged, never stored.
+ */
+public enum SubmissionFailureReason {
+    INSUFFICIENT_BALANCE,
+    ACCOUNT_NOT_FOUND,
+    INVALID_REQUEST,
+    REJECTED,
+    CONFLICT,
+    BUSY,
+    INTERNAL_ERROR;
+
+    public static SubmissionFailureReason of(Throwable e) {
+        if (e instanceof IllegalStateException && Account.INSUFFICIENT_BALANCE.equals(e.getMessage())) {
+            return INSUFFICIENT_BALANCE;
+        }
+        if (e instanceof EntityNotFoundException) {
+            return ACCOUNT_NOT_FOUND;
+        }
+        if (e instanceof IllegalArgumentException) {
+            return INVALID_REQUEST;
+        }
+        if (e instanceof IllegalStateException) {
+            return REJECTED;
+        }
+        if (e instanceof OptimisticLockingFailureException) {
+            return CONFLICT;
+        }
+        if (e instanceof TransferBusyException) {
+            return BUSY;
+        }
+        return INTERNAL_ERROR;
+    }
+}
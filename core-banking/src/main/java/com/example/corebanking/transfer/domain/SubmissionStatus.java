@@ -0,0 +1,7 @@
+package com.example.corebanking.transfer.domain;
+
+public enum SubmissionStatus {
+    PENDING,
+    COMPLETED,
+    FAILED
+}
@@ -1,5 +1,7 @@
 package com.example.corebanking.transfer.domain;
 
+import com.example.corebanking.common.id.TimeOrderedId;
+import com.example.corebanking.common.money.Money;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -8,17 +10,20 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "transfers")
+@Table(name = "transfers", indexes = {
+        // Keyset pagination of the transfer history (see TransferRepository)
+        @Index(name = "idx_transfers_user_time_id", columnList = "userUuid, transferredAt, id")
+})
 public class Transfer {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Assigned before the INSERT (IDENTITY would disable JDBC batching of the history writes)
+    @Id @TimeOrderedId
     private Long id;
 
     @Column(nullable = false)
@@ -28,7 +33,7 @@ public class Transfer {
     private String toAccountNumber;
 
     @Column(nullable = false)
-    private BigDecimal amount;
+    private Money amount;
 
     @Column(nullable = false)
     private String userUuid;
@@ -41,7 +46,7 @@ public class Transfer {
     private String transactionId;
 
     @Builder
-    public Transfer(String fromAccountNumber, String toAccountNumber, BigDecimal amount, String userUuid, String transactionId) {
+    public Transfer(String fromAccountNumber, String toAccountNumber, Money amount, String userUuid, String transactionId) {
         this.fromAccountNumber = fromAccountNumber;
         this.toAccountNumber = toAccountNumber;
         this.amount = amount;
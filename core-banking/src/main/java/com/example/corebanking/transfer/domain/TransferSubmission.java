@@ -0,0 +1,74 @@
+package com.example.corebanking.transfer.domain;
+
+import com.example.corebanking.common.money.Money;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Transfer accepted by POST /banking/transfers/submissions and executed in the background
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "transfer_submissions", indexes = {
+        // Recovery of unfinished submissions on startup
+        @Index(name = "idx_transfer_submissions_status", columnList = "status")
+})
+public class TransferSubmission {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String transactionId;
+
+    @Column(nullable = false)
+    private String userUuid;
+
+    @Column(nullable = false)
+    private String toAccountNumber;
+
+    @Column(nullable = false)
+    private Money amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SubmissionStatus status;
+
+    @Column(length = 500)
+    private String message;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime submittedAt;
+
+    private LocalDateTime completedAt;
+
+    @Builder
+    public TransferSubmission(String transactionId, String userUuid, String toAccountNumber, Money amount) {
+        this.transactionId = transactionId;
+        this.userUuid = userUuid;
+        this.toAccountNumber = toAccountNumber;
+        this.amount = amount;
+        this.status = SubmissionStatus.PENDING;
+    }
+
+    public void complete() {
+        this.status = SubmissionStatus.COMPLETED;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public void fail(String message) {
+        this.status = SubmissionStatus.FAILED;
+        this.message = message == null || message.length() <= 500 ? message : message.substring(0, 500);
+        this.completedAt = LocalDateTime.now();
+    }
+}
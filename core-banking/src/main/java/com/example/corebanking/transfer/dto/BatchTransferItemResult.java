@@ -0,0 +1,19 @@
+package com.example.corebanking.transfer.dto;
+
+public record BatchTransferItemResult(
+        String transactionId,
+        String status, // "SUCCESS", "ALREADY_PROCESSED" or "FAIL"
+        String message
+) {
+    public static BatchTransferItemResult success(String transactionId) {
+        return new BatchTransferItemResult(transactionId, "SUCCESS", null);
+    }
+
+    public static BatchTransferItemResult alreadyProcessed(String transactionId) {
+        return new BatchTransferItemResult(transactionId, "ALREADY_PROCESSED", null);
+    }
+
+    public static BatchTransferItemResult fail(String transactionId, String message) {
+        return new BatchTransferItemResult(transactionId, "FAIL", message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.corebanking.transfer.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record BatchTransferRequest(
+        @NotEmpty(message = "At least one transfer is required.")
+        List<@Valid TransferRequest> transfers
+) {}
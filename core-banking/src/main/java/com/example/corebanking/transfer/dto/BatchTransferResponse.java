@@ -0,0 +1,14 @@
+package com.example.corebanking.transfer.dto;
+
+import java.util.List;
+
+public record BatchTransferResponse(
+        int total,
+        int failed,
+        List<BatchTransferItemResult> results
+) {
+    public static BatchTransferResponse from(List<BatchTransferItemResult> results) {
+        int failed = (int) results.stream().filter(r -> "FAIL".equals(r.status())).count();
+        return new BatchTransferResponse(results.size(), failed, results);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.corebanking.transfer.dto;
+
+import com.example.corebanking.transfer.domain.Transfer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset cursor of the transfer history: position (transferredAt, id) of the last row returned.
+ * Sent to clients as an opaque Base64URL string.
+ */
+public record TransferCursor(
+        LocalDateTime transferredAt,
+        Long id
+) {
+    private static final String SEPARATOR = "|";
+
+    public static TransferCursor of(Transfer transfer) {
+        return new TransferCursor(transfer.getTransferredAt(), transfer.getId());
+    }
+
+    public String encode() {
+        String raw = transferredAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransferCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new TransferCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+    }
+}
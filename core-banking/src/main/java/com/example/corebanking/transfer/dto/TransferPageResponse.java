@@ -0,0 +1,9 @@
+package com.example.corebanking.transfer.dto;
+
+import java.util.List;
+
+public record TransferPageResponse(
+        List<TransferResponse> transfers,
+        String nextCursor, // null on the last page
+        boolean hasNext
+) {}
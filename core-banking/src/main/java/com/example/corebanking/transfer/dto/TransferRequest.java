@@ -1,12 +1,11 @@
 package com.example.corebanking.transfer.dto;
 
-import jakarta.validation.constraints.Min;
+import com.example.corebanking.common.money.MinAmount;
+import com.example.corebanking.common.money.Money;
 import jakarta.validation.constraints.NotNull;
 
-import java.math.BigDecimal;
-
 public record TransferRequest(
         @NotNull String toAccountNumber,
-        @Min(1) BigDecimal amount,
+        @MinAmount(1) Money amount,
         @NotNull String transactionId
 ) {}
@@ -1,15 +1,15 @@
 package com.example.corebanking.transfer.dto;
 
+import com.example.corebanking.common.money.Money;
 import com.example.corebanking.transfer.domain.Transfer;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 public record TransferResponse(
         String transactionId,
         String fromAccountNumber,
         String toAccountNumber,
-        BigDecimal amount,
+        Money amount,
         LocalDateTime transferredAt
 ) {
     public static TransferResponse from(Transfer transfer) {
@@ -0,0 +1,24 @@
+package com.example.corebanking.transfer.dto;
+
+import com.example.corebanking.transfer.domain.SubmissionStatus;
+import com.example.corebanking.transfer.domain.TransferSubmission;
+
+import java.time.LocalDateTime;
+
+public record TransferSubmissionResponse(
+        String transactionId,
+        SubmissionStatus status,
+        String message,
+        LocalDateTime submittedAt,
+        LocalDateTime completedAt
+) {
+    public static TransferSubmissionResponse from(TransferSubmission submission) {
+        return new TransferSubmissionResponse(
+                submission.getTransactionId(),
+                submission.getStatus(),
+                submission.getMessage(),
+                submission.getSubmittedAt(),
+                submission.getCompletedAt()
+        );
+    }
+}
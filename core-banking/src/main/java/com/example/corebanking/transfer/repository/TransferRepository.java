@@ -1,14 +1,34 @@
 package com.example.corebanking.transfer.repository;
 
 import com.example.corebanking.transfer.domain.Transfer;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface TransferRepository extends JpaRepository<Transfer, Long> {
     // "SELECT count(*) > 0 FROM transfers WHERE transaction_id = ?"
     boolean existsByTransactionId(String transactionId);
 
-    // "SELECT * FROM transfers WHERE user_uuid = ? ORDER BY transferred_at DESC"
-    List<Transfer> findByUserUuidOrderByTransferredAtDesc(String userUuid);
+    // "SELECT transaction_id FROM transfers WHERE transaction_id IN (...)"
+    @Query("SELECT t.transactionId FROM Transfer t WHERE t.transactionId IN :transactionIds")
+    List<String> findExistingTransactionIds(@Param("transactionIds") Collection<String> transactionIds);
+
+    // Keyset pagination over idx_transfers_user_time_id (user_uuid, transferred_at, id)
+    // "SELECT * FROM transfers WHERE user_uuid = ? ORDER BY transferred_at DESC, id DESC LIMIT ?"
+    @Query("SELECT t FROM Transfer t WHERE t.userUuid = :userUuid ORDER BY t.transferredAt DESC, t.id DESC")
+    List<Transfer> findFirstPageByUserUuid(@Param("userUuid") String userUuid, Limit limit);
+
+    // "... WHERE user_uuid = ? AND (transferred_at, id) < (?, ?) ORDER BY transferred_at DESC, id DESC LIMIT ?"
+    @Query("SELECT t FROM Transfer t WHERE t.userUuid = :userUuid " +
+            "AND (t.transferredAt, t.id) < (:transferredAt, :id) " +
+            "ORDER BY t.transferredAt DESC, t.id DESC")
+    List<Transfer> findNextPageByUserUuid(@Param("userUuid") String userUuid,
+                                          @Param("transferredAt") LocalDateTime transferredAt,
+                                          @Param("id") Long id,
+                                          Limit limit);
 }
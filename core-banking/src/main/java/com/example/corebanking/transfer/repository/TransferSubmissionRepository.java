@@ -0,0 +1,17 @@
+package com.example.corebanking.transfer.repository;
+
+import com.example.corebanking.transfer.domain.SubmissionStatus;
+import com.example.corebanking.transfer.domain.TransferSubmission;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface TransferSubmissionRepository extends JpaRepository<TransferSubmission, Long> {
+
+    Optional<TransferSubmission> findByTransactionId(String transactionId);
+
+    Optional<TransferSubmission> findByTransactionIdAndUserUuid(String transactionId, String userUuid);
+
+    List<TransferSubmission> findByStatus(SubmissionStatus status);
+}
@@ -0,0 +1,119 @@
+package com.example.corebanking.transfer.service;
+
+import com.example.corebanking.account.domain.Account;
+import com.example.corebanking.account.dto.AccountIdentity;
+import com.example.corebanking.account.repository.AccountRepository;
+import com.example.corebanking.account.service.HotAccountLedger;
+import com.example.corebanking.common.metrics.TransferMetrics;
+import com.example.corebanking.common.metrics.TransferPhase;
+import com.example.corebanking.common.money.Money;
+import com.example.corebanking.transfer.domain.Transfer;
+import com.example.corebanking.transfer.dto.TransferRequest;
+import com.example.corebanking.transfer.repository.TransferRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Single-statement conditional balance update (no entity load, no FOR UPDATE)
+ *
+ * 1. UPDATE accounts SET balance = balance - ? WHERE id = ? AND balance >= ?   (guarded debit)
+ * 2. UPDATE accounts SET balance = balance + ? WHERE id = ?                    (credit)
+ * 3. INSERT INTO transfers ...
+ *
+ * The row lock of each UPDATE is held until commit, and the two UPDATEs are issued
+ * in ascending id order (same deadlock prevention as the pessimistic path).
+ * Slot rows of hot accounts (sweep / credit) are always locked after both accounts rows.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConditionalUpdateTransferStrategy implements TransferStrategy {
+
+    private final TransferRepository transferRepository;
+    private final AccountRepository accountRepository;
+    private final HotAccountLedger hotAccountLedger;
+    private final TransferMetrics transferMetrics;
+
+    @Override
+    public TransferMode mode() {
+        return TransferMode.CONDITIONAL_UPDATE;
+    }
+
+    @Override
+    @Transactional
+    public String transfer(String userUuid, TransferRequest request, AccountIdentity from, AccountIdentity to) {
+        Money amount = request.amount();
+        if (!amount.isPositive()) {
+            throw new IllegalArgumentException("Withdrawal amount must be greater than 0.");
+        }
+
+        transferMetrics.timeCommit();
+
+        // No separate lock phase: the row-lock wait is part of the guarded UPDATEs
+        // Both accounts rows are updated (in ascending id order) before any slot row: a sweep of the
+        // sender's slots only happens after the recipient's UPDATE, whatever the id order is.
+        transferMetrics.time(TransferPhase.MUTATION, () -> {
+            if (hotAccountLedger.isHot(to.id())) {
+                boolean debited = tryWithdraw(from, amount);
+                // Two slot sets: taken in ascending account id order as well
+                if (to.id() < from.id()) {
+                    hotAccountLedger.credit(to.id(), amount);
+                    if (!debited) {
+                        sweepAndWithdraw(from, amount);
+                    }
+                } else {
+                    if (!debited) {
+                        sweepAndWithdraw(from, amount);
+                    }
+                    hotAccountLedger.credit(to.id(), amount);
+                }
+            } else if (from.id() < to.id()) {
+                boolean debited = tryWithdraw(from, amount);
+                deposit(to, amount);
+                if (!debited) {
+                    sweepAndWithdraw(from, amount); // a failure here rolls back the credit above
+                }
+            } else {
+                deposit(to, amount);
+                if (!tryWithdraw(from, amount)) {
+                    sweepAndWithdraw(from, amount); // a failure here rolls back the credit above
+                }
+            }
+        });
+
+        // Save transaction history (the id is pre-assigned: flush so the INSERT is timed here, not in the commit)
+        return transferMetrics.time(TransferPhase.HISTORY, () -> transferRepository.saveAndFlush(Transfer.builder()
+                .fromAccountNumber(from.accountNumber())
+                .toAccountNumber(to.accountNumber())
+                .amount(amount)
+                .transactionId(request.transactionId())
+                .userUuid(userUuid)
+                .build()).getTransactionId());
+    }
+
+    // Guarded debit of the accounts row only
+    private boolean tryWithdraw(AccountIdentity account, Money amount) {
+        return accountRepository.withdrawIfSufficient(account.id(), amount) == 1;
+    }
+
+    // Hot account short on its main row: sweep the slots in (slot locks) and try once more
+    private void sweepAndWithdraw(AccountIdentity account, Money amount) {
+        if (hotAccountLedger.sweep(account.id()) && tryWithdraw(account, amount)) {
+            return;
+        }
+        // Only on the failure path: tell "insufficient" and "gone" apart
+        if (!accountRepository.existsById(account.id())) {
+            throw new EntityNotFoundException("Withdrawal account not found..");
+        }
+        throw new IllegalStateException(Account.INSUFFICIENT_BALANCE);
+    }
+
+    private void deposit(AccountIdentity account, Money amount) {
+        if (accountRepository.depositById(account.id(), amount) != 1) {
+            throw new EntityNotFoundException("Deposit account not found.");
+        }
+    }
+}
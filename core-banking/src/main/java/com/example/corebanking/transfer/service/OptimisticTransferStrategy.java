@@ -0,0 +1,154 @@
+package com.example.corebanking.transfer.service;
+
+import com.example.corebanking.account.domain.Account;
+import com.example.corebanking.account.dto.AccountIdentity;
+import com.example.corebanking.account.repository.AccountRepository;
+import com.example.corebanking.account.service.HotAccountLedger;
+import com.example.corebanking.common.metrics.TransferMetrics;
+import com.example.corebanking.common.metrics.TransferPhase;
+import com.example.corebanking.config.TransferProperties;
+import com.example.corebanking.transfer.domain.Transfer;
+import com.example.corebanking.transfer.dto.TransferRequest;
+import com.example.corebanking.transfer.repository.TransferRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Optimistic Lock (@Version) without FOR UPDATE
+ *
+ * Both accounts are read without row locks and updated with
+ * "UPDATE ... WHERE id = ? AND version = ?". When another transaction won the race
+ * the whole attempt is rolled back and retried in a new transaction,
+ * after a jittered exponential backoff, up to max-attempts.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OptimisticTransferStrategy implements TransferStrategy {
+
+    private final TransferRepository transferRepository;
+    private final AccountRepository accountRepository;
+    private final HotAccountLedger hotAccountLedger;
+    private final TransactionTemplate transactionTemplate;
+    private final TransferProperties transferProperties;
+    private final TransferMetrics transferMetrics;
+
+    @Override
+    public TransferMode mode() {
+        return TransferMode.OPTIMISTIC;
+    }
+
+    @Override
+    public String transfer(String userUuid, TransferRequest request, AccountIdentity from, AccountIdentity to) {
+        TransferProperties.Optimistic optimistic = transferProperties.getOptimistic();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status ->
+                        executeAttempt(userUuid, request, from.id(), to.id()));
+            } catch (OptimisticLockingFailureException e) {
+                transferMetrics.recordOptimisticConflict();
+
+                if (attempt >= optimistic.getMaxAttempts()) {
+                    log.warn("Optimistic transfer gave up - transactionId: {}, attempts: {}",
+                            request.transactionId(), attempt);
+                    throw e;
+                }
+
+                transferMetrics.recordRetry();
+                backoff(attempt, optimistic);
+            }
+        }
+    }
+
+    private String executeAttempt(String userUuid, TransferRequest request, Long fromAccountId, Long toAccountId) {
+        transferMetrics.timeCommit();
+
+        if (hotAccountLedger.isHot(toAccountId)) {
+            return executeHotAttempt(userUuid, request, fromAccountId, toAccountId);
+        }
+
+        // Plain read, no FOR UPDATE
+        List<Account> accounts = transferMetrics.time(TransferPhase.LOCK,
+                () -> accountRepository.findAllById(List.of(fromAccountId, toAccountId)));
+
+        if (accounts.size() != 2) {
+            throw new EntityNotFoundException("Some accounts not be found.");
+        }
+
+        Account sender = accounts.stream()
+                .filter(a -> a.getId().equals(fromAccountId))
+                .findFirst().orElseThrow();
+        Account recipient = accounts.stream()
+                .filter(a -> a.getId().equals(toAccountId))
+                .findFirst().orElseThrow();
+
+        // Execute business logic
+        transferMetrics.time(TransferPhase.MUTATION, () -> {
+            hotAccountLedger.coverShortfall(sender, request.amount());
+            sender.withdraw(request.amount());
+            recipient.deposit(request.amount());
+
+            // Versioned UPDATEs (hibernate.order_updates sorts them by id -> same row order as the pessimistic path)
+            accountRepository.save(sender);
+            accountRepository.save(recipient);
+            accountRepository.flush();
+        });
+
+        // Save transaction history
+        return transferMetrics.time(TransferPhase.HISTORY, () -> saveTransfer(userUuid, request,
+                sender.getAccountNumber(), recipient.getAccountNumber()));
+    }
+
+    // Hot recipient: only the sender is versioned, the credit goes to a sub-ledger slot
+    private String executeHotAttempt(String userUuid, TransferRequest request, Long fromAccountId, Long toAccountId) {
+        Account sender = transferMetrics.time(TransferPhase.LOCK, () -> accountRepository.findById(fromAccountId))
+                .orElseThrow(() -> new EntityNotFoundException("Withdrawal account not found.."));
+
+        transferMetrics.time(TransferPhase.MUTATION, () -> {
+            hotAccountLedger.coverShortfall(sender, request.amount());
+            sender.withdraw(request.amount());
+            // Version check before the slot credit, so the slot stays the last row lock
+            accountRepository.saveAndFlush(sender);
+
+            hotAccountLedger.credit(toAccountId, request.amount());
+        });
+
+        return transferMetrics.time(TransferPhase.HISTORY, () -> saveTransfer(userUuid, request,
+                sender.getAccountNumber(), request.toAccountNumber()));
+    }
+
+    private String saveTransfer(String userUuid, TransferRequest request, String fromAccountNumber, String toAccountNumber) {
+        // The id is pre-assigned: flush so the INSERT is timed here, not in the commit
+        Transfer transfer = transferRepository.saveAndFlush(Transfer.builder()
+                .fromAccountNumber(fromAccountNumber)
+                .toAccountNumber(toAccountNumber)
+                .amount(request.amount())
+                .transactionId(request.transactionId())
+                .userUuid(userUuid)
+                .build());
+        return transfer.getTransactionId();
+    }
+
+    /**
+     * Exponential backoff with "equal jitter": sleep between half and all of base * 2^(attempt - 1)
+     */
+    private void backoff(int attempt, TransferProperties.Optimistic optimistic) {
+        long ceiling = Math.min(optimistic.getMaxBackoffMs(), optimistic.getBackoffMs() << Math.min(attempt - 1, 20));
+        long sleepMs = ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+
+        try {
+            Thread.sleep(sleepMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Transfer was interrupted while retrying.", e);
+        }
+    }
+}
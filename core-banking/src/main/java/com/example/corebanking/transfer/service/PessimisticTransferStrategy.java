@@ -0,0 +1,118 @@
+package com.example.corebanking.transfer.service;
+
+import com.example.corebanking.account.domain.Account;
+import com.example.corebanking.account.dto.AccountIdentity;
+import com.example.corebanking.account.repository.AccountRepository;
+import com.example.corebanking.account.service.HotAccountLedger;
+import com.example.corebanking.common.metrics.TransferMetrics;
+import com.example.corebanking.common.metrics.TransferPhase;
+import com.example.corebanking.transfer.domain.Transfer;
+import com.example.corebanking.transfer.dto.TransferRequest;
+import com.example.corebanking.transfer.repository.TransferRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * PESSIMISTIC_WRITE (FOR UPDATE) on both accounts in ascending id order
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PessimisticTransferStrategy implements TransferStrategy {
+
+    private final TransferRepository transferRepository;
+    private final AccountRepository accountRepository;
+    private final HotAccountLedger hotAccountLedger;
+    private final TransferMetrics transferMetrics;
+
+    @Override
+    public TransferMode mode() {
+        return TransferMode.PESSIMISTIC;
+    }
+
+    @Override
+    @Transactional
+    public String transfer(String userUuid, TransferRequest request, AccountIdentity from, AccountIdentity to) {
+        transferMetrics.timeCommit();
+
+        // Hot recipient: credited through a sub-ledger slot, its accounts row is not locked
+        if (hotAccountLedger.isHot(to.id())) {
+            return transferToHotAccount(userUuid, request, from, to);
+        }
+
+        // [Core logic for deadlock prevention]
+        // Deadlock Prevention: Create a list after sorting IDs
+        List<Long> accountIds = Arrays.asList(from.id(), to.id());
+        accountIds.sort(Long::compareTo);
+
+        log.info("Account PK ID Lock Order - first: {}, second: {}", accountIds.get(0), accountIds.get(1));
+
+        // Acquire Pessimistic Locks (FOR UPDATE)
+        List<Account> lockedAccounts = transferMetrics.time(TransferPhase.LOCK,
+                () -> accountRepository.findByIdsWithLock(accountIds));
+
+        if (lockedAccounts.size() != 2) {
+            throw new EntityNotFoundException("Some accounts not be found.");
+        }
+
+        // Re-map to locked objects
+        Account sender = lockedAccounts.stream()
+                .filter(a -> a.getId().equals(from.id()))
+                .findFirst().orElseThrow();
+        Account recipient = lockedAccounts.stream()
+                .filter(a -> a.getId().equals(to.id()))
+                .findFirst().orElseThrow();
+
+        log.info("Transfer processing - from: {} (balance: {}), to: {}, amount: {}",
+                sender.getAccountNumber(),
+                sender.getBalance(),
+                recipient.getAccountNumber(),
+                request.amount());
+
+        // Execute business logic (flushed here so the commit phase is only the commit itself)
+        transferMetrics.time(TransferPhase.MUTATION, () -> {
+            hotAccountLedger.coverShortfall(sender, request.amount());
+            sender.withdraw(request.amount());
+            recipient.deposit(request.amount());
+
+            accountRepository.save(sender);
+            accountRepository.save(recipient);
+            accountRepository.flush();
+        });
+
+        return transferMetrics.time(TransferPhase.HISTORY, () -> saveTransfer(userUuid, request, from, to));
+    }
+
+    private String transferToHotAccount(String userUuid, TransferRequest request, AccountIdentity from, AccountIdentity to) {
+        Account sender = transferMetrics.time(TransferPhase.LOCK, () -> accountRepository.findByIdWithLock(from.id()))
+                .orElseThrow(() -> new EntityNotFoundException("Withdrawal account not found.."));
+
+        transferMetrics.time(TransferPhase.MUTATION, () -> {
+            hotAccountLedger.coverShortfall(sender, request.amount());
+            sender.withdraw(request.amount());
+            accountRepository.saveAndFlush(sender);
+
+            hotAccountLedger.credit(to.id(), request.amount());
+        });
+
+        return transferMetrics.time(TransferPhase.HISTORY, () -> saveTransfer(userUuid, request, from, to));
+    }
+
+    private String saveTransfer(String userUuid, TransferRequest request, AccountIdentity from, AccountIdentity to) {
+        // Save transaction history (the id is pre-assigned: flush so the INSERT is timed here, not in the commit)
+        Transfer transfer = transferRepository.saveAndFlush(Transfer.builder()
+                .fromAccountNumber(from.accountNumber())
+                .toAccountNumber(to.accountNumber())
+                .amount(request.amount())
+                .transactionId(request.transactionId())
+                .userUuid(userUuid)
+                .build());
+        return transfer.getTransactionId();
+    }
+}
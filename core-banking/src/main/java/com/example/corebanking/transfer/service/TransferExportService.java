@@ -0,0 +1,145 @@
+package com.example.corebanking.transfer.service;
+
+import com.example.corebanking.common.money.Money;
+import com.example.corebanking.config.TransferProperties;
+import com.example.corebanking.transfer.dto.TransferResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Full transfer history export
+ *
+ * Rows are read from a forward-only cursor with a bounded fetch size and
+ * written to the response as they arrive, so heap usage does not grow with
+ * the number of transfers. On MySQL this needs useCursorFetch=true in the
+ * JDBC url; otherwise the driver buffers the whole result set client-side.
+ */
+@Slf4j
+@Service
+public class TransferExportService {
+
+    private static final String EXPORT_SQL = """
+            SELECT transaction_id, from_account_number, to_account_number, amount, transferred_at
+              FROM transfers
+             WHERE user_uuid = ?
+             ORDER BY transferred_at DESC, id DESC
+            """;
+
+    private static final String CSV_HEADER = "transactionId,fromAccountNumber,toAccountNumber,amount,transferredAt";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public TransferExportService(DataSource dataSource, ObjectMapper objectMapper, TransferProperties transferProperties) {
+        // Dedicated template: the fetch size only applies to the export cursor
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(transferProperties.getExport().getFetchSize());
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Stream every transfer of the user, newest first
+     * @param userUuid Owner of the transfers
+     * @param format   NDJSON (one TransferResponse per line) or CSV
+     * @param out      Response body, not closed here
+     * @return Number of exported rows
+     */
+    public long export(String userUuid, ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long[] rows = {0};
+
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try {
+            jdbcTemplate.query(EXPORT_SQL, rs -> {
+                try {
+                    TransferResponse row = mapRow(rs);
+                    writer.write(format == ExportFormat.CSV ? toCsv(row) : objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                    rows[0]++;
+                } catch (IOException e) {
+                    // Client went away: stop reading the cursor
+                    throw new UncheckedIOException(e);
+                }
+            }, userUuid);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writer.flush();
+        log.info("transfer export done - userUuid: {}, format: {}, rows: {}", userUuid, format, rows[0]);
+        return rows[0];
+    }
+
+    private TransferResponse mapRow(ResultSet rs) throws SQLException {
+        return new TransferResponse(
+                rs.getString("transaction_id"),
+                rs.getString("from_account_number"),
+                rs.getString("to_account_number"),
+                Money.of(rs.getBigDecimal("amount")),
+                rs.getTimestamp("transferred_at").toLocalDateTime()
+        );
+    }
+
+    private String toCsv(TransferResponse row) {
+        return String.join(",",
+                csvField(row.transactionId()),
+                csvField(row.fromAccountNumber()),
+                csvField(row.toAccountNumber()),
+                row.amount().toString(),
+                row.transferredAt().toString());
+    }
+
+    private String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    public enum ExportFormat {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public static ExportFormat of(String value) {
+            for (ExportFormat format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported export format: " + value);
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+    }
+}
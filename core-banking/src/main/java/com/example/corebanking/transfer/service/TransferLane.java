@@ -0,0 +1,91 @@
+package com.example.corebanking.transfer.service;
+
+import com.example.corebanking.common.exception.TransferBusyException;
+import com.example.corebanking.common.metrics.TransferMetrics;
+import com.example.corebanking.config.TransferProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Per-account striped serialization lane
+ *
+ * Transfers touching the same account are queued here (FIFO, in the JVM) before
+ * they open a transaction, so waiting requests do not hold a DB connection or
+ * pile up on the InnoDB row lock. The pessimistic lock is still taken inside
+ * the transaction and remains the guarantee across multiple instances.
+ *
+ * Stripes are always acquired in ascending index order (same idea as the
+ * account id ordering in TransferService) so two lanes cannot deadlock.
+ */
+@Component
+public class TransferLane {
+
+    private final boolean enabled;
+    private final long timeoutNanos;
+    private final ReentrantLock[] stripes;
+    private final int mask;
+    private final TransferMetrics transferMetrics;
+
+    public TransferLane(TransferProperties transferProperties, TransferMetrics transferMetrics) {
+        TransferProperties.Lane lane = transferProperties.getLane();
+        this.enabled = lane.isEnabled();
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(lane.getTimeoutMs());
+        this.transferMetrics = transferMetrics;
+
+        int size = Integer.highestOneBit(Math.max(1, lane.getStripes() - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock(true); // fair: hot account requests run in arrival order
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Run the work while holding the lanes of all given accounts
+     * @param accountIds Accounts touched by the work
+     * @param work       Usually the transactional part of a transfer
+     */
+    public <T> T execute(Collection<Long> accountIds, Supplier<T> work) {
+        if (!enabled) {
+            return work.get();
+        }
+
+        int[] indexes = accountIds.stream()
+                .mapToInt(this::stripeOf)
+                .distinct()
+                .sorted()
+                .toArray();
+
+        int acquired = 0;
+        long start = System.nanoTime();
+        try {
+            for (int index : indexes) {
+                long remaining = timeoutNanos - (System.nanoTime() - start);
+                if (!stripes[index].tryLock(remaining, TimeUnit.NANOSECONDS)) {
+                    transferMetrics.recordLaneTimeout();
+                    throw new TransferBusyException("The account is busy. Please try again later.");
+                }
+                acquired++;
+            }
+            transferMetrics.recordLaneWait(System.nanoTime() - start);
+
+            return work.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Transfer was interrupted while waiting for the account.", e);
+        } finally {
+            for (int i = acquired - 1; i >= 0; i--) {
+                stripes[indexes[i]].unlock();
+            }
+        }
+    }
+
+    private int stripeOf(Long accountId) {
+        int h = Long.hashCode(accountId);
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
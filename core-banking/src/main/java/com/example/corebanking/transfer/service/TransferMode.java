@@ -0,0 +1,13 @@
+package com.example.corebanking.transfer.service;
+
+/**
+ * How the balance update of a single transfer is executed (banking.transfer.strategy)
+ */
+public enum TransferMode {
+    // SELECT ... FOR UPDATE on both accounts, then update (default)
+    PESSIMISTIC,
+    // Versioned update without row locks, retried on conflict
+    OPTIMISTIC,
+    // Guarded "UPDATE ... WHERE balance >= amount", no entity load
+    CONDITIONAL_UPDATE
+}
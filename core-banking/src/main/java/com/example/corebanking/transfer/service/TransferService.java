@@ -1,10 +1,22 @@
 package com.example.corebanking.transfer.service;
 
 import com.example.corebanking.account.domain.Account;
+import com.example.corebanking.account.dto.AccountIdentity;
 import com.example.corebanking.account.repository.AccountRepository;
+import com.example.corebanking.account.service.AccountIdentityCache;
+import com.example.corebanking.account.service.AccountResponseCache;
 import com.example.corebanking.account.service.AccountService;
+import com.example.corebanking.account.service.HotAccountLedger;
+import com.example.corebanking.common.idempotency.IdempotencyStore;
+import com.example.corebanking.common.datasource.ReadYourWritesTracker;
 import com.example.corebanking.common.metrics.TransferMetrics;
+import com.example.corebanking.common.metrics.TransferPhase;
+import com.example.corebanking.config.TransferProperties;
 import com.example.corebanking.transfer.domain.Transfer;
+import com.example.corebanking.transfer.dto.BatchTransferItemResult;
+import com.example.corebanking.transfer.dto.BatchTransferResponse;
+import com.example.corebanking.transfer.dto.TransferCursor;
+import com.example.corebanking.transfer.dto.TransferPageResponse;
 import com.example.corebanking.transfer.dto.TransferRequest;
 import com.example.corebanking.transfer.dto.TransferResponse;
 import com.example.corebanking.transfer.repository.TransferRepository;
@@ -13,11 +25,20 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -27,7 +48,16 @@ public class TransferService {
     private final AccountService accountService;
     private final TransferRepository transferRepository;
     private final AccountRepository accountRepository;
+    private final AccountIdentityCache accountIdentityCache;
     private final TransferMetrics transferMetrics;
+    private final TransferLane transferLane;
+    private final TransactionTemplate transactionTemplate;
+    private final TransferProperties transferProperties;
+    private final List<TransferStrategy> transferStrategies;
+    private final IdempotencyStore idempotencyStore;
+    private final HotAccountLedger hotAccountLedger;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AccountResponseCache accountResponseCache;
 
     /**
      * Execute transfer between accounts (With concurrency control and deadlock prevention)
@@ -35,93 +65,296 @@ public class TransferService {
      *  @param request  Transfer request details (Recipient account, amount, unique transaction ID)
      *  @return Returns the transactionId upon success
      */
-    @Transactional
     public String transfer(String userUuid, TransferRequest request) {
         Timer.Sample timerSample = transferMetrics.startTimer();
+        String txId = request.transactionId();
 
         try {
-            log.info("transfer start - userUuid: {}, transactionId: {}",
-                    userUuid, request.transactionId());
+            log.info("transfer start - userUuid: {}, transactionId: {}", userUuid, txId);
 
-            // Idempotency Check
-            if (transferRepository.existsByTransactionId(request.transactionId())) {
-                return "ALREADY_PROCESSED:" + request.transactionId();
+            // Idempotency Check: reserve the transactionId before any DB work
+            boolean reserved = transferMetrics.time(TransferPhase.IDEMPOTENCY,
+                    () -> idempotencyStore.reserve(txId, transferProperties.getIdempotency().getTtl()));
+            if (!reserved) {
+                return "ALREADY_PROCESSED:" + txId;
             }
 
-            // Pre-fetch IDs to determine locking order
-            Long fromAccountId = accountRepository.findIdByUserUuid(userUuid)
-                    .orElseThrow(() -> new EntityNotFoundException("Withdrawal account not found.."));
-            Long toAccountId = accountRepository.findIdByAccountNumber(request.toAccountNumber())
-                    .orElseThrow(() -> new EntityNotFoundException("Deposit account not found."));
+            boolean completed = false;
+            try {
+                String result = executeTransfer(userUuid, request, true);
+                completed = true;
+                transferMetrics.recordSuccess();
+                readYourWritesTracker.markWrite(userUuid);
+                return result;
+            } catch (DataIntegrityViolationException e) {
+                // Final backstop: unique constraint on transaction_id (e.g. reservation expired)
+                if (transferRepository.existsByTransactionId(txId)) {
+                    completed = true;
+                    return "ALREADY_PROCESSED:" + txId;
+                }
+                throw e;
+            } finally {
+                if (!completed) {
+                    // Nothing was committed -> the client may retry with the same transactionId
+                    idempotencyStore.release(txId);
+                }
+            }
+        } catch (Exception e) {
+            transferMetrics.recordFailure(e);
+            throw e;
+        } finally {
+            transferMetrics.stopTimer(timerSample);
+        }
+    }
+
+    private String executeTransfer(String userUuid, TransferRequest request, boolean retryOnStaleIdentity) {
+        // Pre-fetch IDs to determine locking order (served from the identity cache)
+        long resolveStart = System.nanoTime();
+        Optional<AccountIdentity> sender = accountIdentityCache.findByUserUuid(userUuid);
+        Optional<Long> recipientId = accountIdentityCache.findIdByAccountNumber(request.toAccountNumber());
+        transferMetrics.recordPhase(TransferPhase.RESOLVE, System.nanoTime() - resolveStart);
+
+        AccountIdentity from = sender
+                .orElseThrow(() -> new EntityNotFoundException("Withdrawal account not found.."));
+        Long toAccountId = recipientId
+                .orElseThrow(() -> new EntityNotFoundException("Deposit account not found."));
+        AccountIdentity to = new AccountIdentity(toAccountId, request.toAccountNumber());
+
+        // Validation: Sender and recipient must be different
+        if (from.id().equals(to.id())) {
+            throw new IllegalArgumentException("The sender's and recipient's accounts cannot be the same.");
+        }
+
+        // Queue on the account lanes first, then open the transaction
+        // -> Requests waiting for a hot account do not hold a DB connection.
+        // A hot recipient is credited through a sub-ledger slot and does not take a lane
+        TransferStrategy strategy = currentStrategy();
+        List<Long> laneIds = hotAccountLedger.isHot(to.id()) ? List.of(from.id()) : List.of(from.id(), to.id());
+        try {
+            String result = transferLane.execute(laneIds,
+                    () -> strategy.transfer(userUuid, request, from, to));
+            // The strategy has committed: drop both cached balances
+            accountResponseCache.evictAfterCommit(List.of(from.accountNumber(), to.accountNumber()));
+            return result;
+        } catch (EntityNotFoundException e) {
+            if (!retryOnStaleIdentity) {
+                throw e;
+            }
+            // A cached id points to a row that no longer exists -> resolve again from the DB once
+            accountIdentityCache.evict(userUuid, List.of(request.toAccountNumber()));
+            return executeTransfer(userUuid, request, false);
+        }
+    }
+
+    private TransferStrategy currentStrategy() {
+        TransferMode mode = transferProperties.getStrategy();
+        return transferStrategies.stream()
+                .filter(strategy -> strategy.mode() == mode)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No transfer strategy for mode: " + mode));
+    }
+
+    /**
+     * Execute many transfers of one sender in a single transaction
+     * All involved accounts are locked once, in ascending id order (same deadlock prevention as transfer()).
+     * Each item succeeds or fails on its own; a failed item does not move any money.
+     *  @param userUuid Identifier of the transfer requester
+     *  @param requests Transfer items
+     *  @return Returns a result for each item, in request order
+     */
+    public BatchTransferResponse transferBatch(String userUuid, List<TransferRequest> requests) {
+        if (requests.size() > transferProperties.getBatch().getMaxSize()) {
+            throw new IllegalArgumentException("A batch can contain at most "
+                    + transferProperties.getBatch().getMaxSize() + " transfers.");
+        }
 
-            // Validation: Sender and recipient must be different
-            if (fromAccountId.equals(toAccountId)) {
-                throw new IllegalArgumentException("The sender's and recipient's accounts cannot be the same.");
+        Timer.Sample timerSample = transferMetrics.startTimer();
+
+        try {
+            log.info("batch transfer start - userUuid: {}, size: {}", userUuid, requests.size());
+
+            // Idempotency Check: reserve every transactionId before any lock is taken
+            Set<String> reservedIds = new HashSet<>();
+            Set<String> rejectedIds = new HashSet<>();
+            for (TransferRequest request : requests) {
+                String txId = request.transactionId();
+                if (!reservedIds.contains(txId) && !idempotencyStore.reserve(txId, transferProperties.getIdempotency().getTtl())) {
+                    rejectedIds.add(txId);
+                } else {
+                    reservedIds.add(txId);
+                }
             }
 
-            // [Core logic for deadlock prevention]
-            // Deadlock Prevention: Create a list after sorting IDs
-            List<Long> accountIds = Arrays.asList(fromAccountId, toAccountId);
-            accountIds.sort(Long::compareTo);
+            BatchTransferResponse response;
+            try {
+                response = resolveAndExecuteBatch(userUuid, requests, rejectedIds, true);
+            } catch (Exception e) {
+                reservedIds.forEach(idempotencyStore::release);
+                throw e;
+            }
+
+            // Item failures were counted by type in executeBatch
+            Set<String> succeededIds = new HashSet<>();
+            response.results().forEach(result -> {
+                if ("SUCCESS".equals(result.status())) {
+                    transferMetrics.recordSuccess();
+                    succeededIds.add(result.transactionId());
+                }
+            });
+            // A failed item may share its transactionId with a later item that succeeded: keep that reservation
+            response.results().stream()
+                    .filter(result -> "FAIL".equals(result.status()))
+                    .map(BatchTransferItemResult::transactionId)
+                    .filter(txId -> !succeededIds.contains(txId))
+                    .distinct()
+                    .forEach(idempotencyStore::release);
+            readYourWritesTracker.markWrite(userUuid);
+            return response;
+        } catch (Exception e) {
+            transferMetrics.recordFailure(e);
+            throw e;
+        } finally {
+            transferMetrics.stopTimer(timerSample);
+        }
+    }
 
-            log.info("Account PK ID Lock Order - first: {}, second: {}", accountIds.get(0), accountIds.get(1));
+    private BatchTransferResponse resolveAndExecuteBatch(String userUuid, List<TransferRequest> requests,
+                                                         Set<String> rejectedIds, boolean retryOnStaleIdentity) {
+        // Pre-fetch IDs to determine locking order (identity cache, one query for all missed recipients)
+        Long fromAccountId = accountIdentityCache.findByUserUuid(userUuid)
+                .map(AccountIdentity::id)
+                .orElseThrow(() -> new EntityNotFoundException("Withdrawal account not found.."));
+        Map<String, Long> recipientIds = accountIdentityCache.findIdsByAccountNumbers(
+                requests.stream().map(TransferRequest::toAccountNumber).collect(Collectors.toSet()));
 
-            // Acquire Pessimistic Locks (FOR UPDATE)
-            List<Account> lockedAccounts = accountRepository.findByIdsWithLock(accountIds);
+        Set<Long> accountIds = new TreeSet<>(recipientIds.values());
+        accountIds.add(fromAccountId);
 
-            if (lockedAccounts.size() != 2) {
-                throw new EntityNotFoundException("Some accounts not be found.");
+        try {
+            return transferLane.execute(accountIds,
+                    () -> transactionTemplate.execute(status -> executeBatch(userUuid, requests, fromAccountId,
+                            recipientIds, new ArrayList<>(accountIds), rejectedIds)));
+        } catch (EntityNotFoundException e) {
+            if (!retryOnStaleIdentity) {
+                throw e;
             }
+            // A cached id points to a row that no longer exists -> resolve again from the DB once
+            accountIdentityCache.evict(userUuid, recipientIds.keySet());
+            return resolveAndExecuteBatch(userUuid, requests, rejectedIds, false);
+        }
+    }
 
-            // Re-map to locked objects
-            Account sender = lockedAccounts.stream()
-                    .filter(a -> a.getId().equals(fromAccountId))
-                    .findFirst().orElseThrow();
-            Account recipient = lockedAccounts.stream()
-                    .filter(a -> a.getId().equals(toAccountId))
-                    .findFirst().orElseThrow();
+    private BatchTransferResponse executeBatch(String userUuid, List<TransferRequest> requests, Long fromAccountId,
+                                               Map<String, Long> recipientIds, List<Long> sortedAccountIds,
+                                               Set<String> rejectedIds) {
+        // Reserved elsewhere, or already stored (one query for the whole batch; covers expired reservations)
+        Set<String> processedIds = new HashSet<>(rejectedIds);
+        processedIds.addAll(transferRepository.findExistingTransactionIds(
+                requests.stream().map(TransferRequest::transactionId).toList()));
 
-            log.info("Transfer processing - from: {} (balance: {}), to: {}, amount: {}",
-                    sender.getAccountNumber(),
-                    sender.getBalance(),
-                    recipient.getAccountNumber(),
-                    request.amount());
+        // Acquire Pessimistic Locks (FOR UPDATE) on the union of accounts, sorted by id
+        Map<Long, Account> lockedAccounts = accountRepository.findByIdsWithLock(sortedAccountIds)
+                .stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+
+        if (lockedAccounts.size() != sortedAccountIds.size()) {
+            throw new EntityNotFoundException("Some accounts not be found.");
+        }
+        Account sender = lockedAccounts.get(fromAccountId);
+
+        List<BatchTransferItemResult> results = new ArrayList<>(requests.size());
+        List<Transfer> transfers = new ArrayList<>();
 
-            // Execute business logic
-            sender.withdraw(request.amount());
-            recipient.deposit(request.amount());
+        for (TransferRequest request : requests) {
+            String txId = request.transactionId();
 
-            accountRepository.save(sender);
-            accountRepository.save(recipient);
+            // Already stored, or repeated inside this batch
+            if (!processedIds.add(txId)) {
+                results.add(BatchTransferItemResult.alreadyProcessed(txId));
+                continue;
+            }
+
+            Account recipient = lockedAccounts.get(recipientIds.get(request.toAccountNumber()));
+            if (recipient == null) {
+                processedIds.remove(txId);
+                transferMetrics.recordFailure(EntityNotFoundException.class);
+                results.add(BatchTransferItemResult.fail(txId, "Deposit account not found."));
+                continue;
+            }
+            if (recipient == sender) {
+                processedIds.remove(txId);
+                transferMetrics.recordFailure(IllegalArgumentException.class);
+                results.add(BatchTransferItemResult.fail(txId, "The sender's and recipient's accounts cannot be the same."));
+                continue;
+            }
 
+            try {
+                // withdraw() validates before mutating, so a failed item leaves the balances untouched
+                hotAccountLedger.coverShortfall(sender, request.amount());
+                sender.withdraw(request.amount());
+                recipient.deposit(request.amount());
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                processedIds.remove(txId);
+                transferMetrics.recordFailure(e);
+                results.add(BatchTransferItemResult.fail(txId, e.getMessage()));
+                continue;
+            }
 
-            // Save transaction history
-            Transfer transfer = transferRepository.save(Transfer.builder()
+            transfers.add(Transfer.builder()
                     .fromAccountNumber(sender.getAccountNumber())
                     .toAccountNumber(recipient.getAccountNumber())
                     .amount(request.amount())
-                    .transactionId(request.transactionId())
+                    .transactionId(txId)
                     .userUuid(userUuid)
                     .build());
-            return transfer.getTransactionId();
-        } catch (Exception e) {
-            transferMetrics.recordFailure();
-            throw e;
-        } finally {
-            transferMetrics.stopTimer(timerSample);
+            results.add(BatchTransferItemResult.success(txId));
         }
+
+        // Balances are flushed by dirty checking on commit
+        transferRepository.saveAll(transfers);
+
+        Set<String> touchedAccountNumbers = new HashSet<>();
+        transfers.forEach(transfer -> {
+            touchedAccountNumbers.add(transfer.getFromAccountNumber());
+            touchedAccountNumbers.add(transfer.getToAccountNumber());
+        });
+        accountResponseCache.evictAfterCommit(touchedAccountNumbers);
+
+        log.info("batch transfer processed - from: {}, succeeded: {}, total: {}",
+                sender.getAccountNumber(), transfers.size(), requests.size());
+
+        return BatchTransferResponse.from(results);
     }
 
     /**
-     *  Get User's Transfers histories
+     *  Get User's Transfers histories (keyset pagination, newest first)
      *  @param userUuid Identifier of the transfer requester
-     *  @return Returns the transfers list
+     *  @param cursor   nextCursor of the previous page (null for the first page)
+     *  @param size     Page size (capped by banking.transfer.history.max-page-size)
+     *  @return Returns one page of the transfers list
      */
     @Transactional(readOnly = true)
-    public List<TransferResponse> getTransfersByUser(String userUuid) {
-        return transferRepository.findByUserUuidOrderByTransferredAtDesc(userUuid)
-                .stream()
-                .map(TransferResponse::from)
-                .toList();
+    public TransferPageResponse getTransfersByUser(String userUuid, String cursor, Integer size) {
+        TransferProperties.History history = transferProperties.getHistory();
+        int pageSize = size == null ? history.getDefaultPageSize() : Math.min(Math.max(size, 1), history.getMaxPageSize());
+
+        // Fetch one extra row to know whether a next page exists
+        Limit limit = Limit.of(pageSize + 1);
+        List<Transfer> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = transferRepository.findFirstPageByUserUuid(userUuid, limit);
+        } else {
+            TransferCursor after = TransferCursor.decode(cursor);
+            rows = transferRepository.findNextPageByUserUuid(userUuid, after.transferredAt(), after.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Transfer> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? TransferCursor.of(page.get(page.size() - 1)).encode() : null;
+
+        return new TransferPageResponse(
+                page.stream().map(TransferResponse::from).toList(),
+                nextCursor,
+                hasNext);
     }
 }
@@ -0,0 +1,23 @@
+package com.example.corebanking.transfer.service;
+
+import com.example.corebanking.account.dto.AccountIdentity;
+import com.example.corebanking.transfer.dto.TransferRequest;
+
+/**
+ * Executes the balance update + history insert of one transfer.
+ * Implementations own their transaction boundary.
+ * Idempotency is handled by TransferService (reservation + unique constraint on transaction_id).
+ */
+public interface TransferStrategy {
+
+    TransferMode mode();
+
+    /**
+     *  @param userUuid Identifier of the transfer requester
+     *  @param request  Transfer request details
+     *  @param from     Withdrawal account (pre-fetched id + account number)
+     *  @param to       Deposit account (pre-fetched id + account number)
+     *  @return Returns the transactionId upon success
+     */
+    String transfer(String userUuid, TransferRequest request, AccountIdentity from, AccountIdentity to);
+}
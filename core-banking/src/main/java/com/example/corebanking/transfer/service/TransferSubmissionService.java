@@ -0,0 +1,219 @@
+package com.example.corebanking.transfer.service;
+
+import com.example.corebanking.common.exception.TransferQueueFullException;
+import com.example.corebanking.common.metrics.TransferMetrics;
+import com.example.corebanking.config.TransferProperties;
+import com.example.corebanking.transfer.domain.SubmissionFailureReason;
+import com.example.corebanking.transfer.domain.SubmissionStatus;
+import com.example.corebanking.transfer.domain.TransferSubmission;
+import com.example.corebanking.transfer.dto.TransferRequest;
+import com.example.corebanking.transfer.dto.TransferSubmissionResponse;
+import com.example.corebanking.transfer.repository.TransferSubmissionRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Submit-and-return transfers (202 Accepted + status polling)
+ *
+ * 1. The request is stored as a PENDING TransferSubmission keyed by transactionId
+ * 2. A bounded worker pool runs TransferService.transfer() (same locking and idempotency)
+ * 3. The submission is marked COMPLETED or FAILED
+ *
+ * When the queue is full the submission is removed again and 429 is returned,
+ * so load spikes are pushed back to the client instead of becoming DB lock waits.
+ * PENDING submissions left by a restart are re-queued on startup; the transactionId
+ * idempotency of TransferService makes a second execution harmless.
+ */
+@Slf4j
+@Service
+public class TransferSubmissionService {
+
+    private final TransferService transferService;
+    private final TransferSubmissionRepository submissionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransferMetrics transferMetrics;
+    private final ThreadPoolExecutor executor;
+
+    public TransferSubmissionService(TransferService transferService,
+                                     TransferSubmissionRepository submissionRepository,
+                                     TransactionTemplate transactionTemplate,
+                                     TransferMetrics transferMetrics,
+                                     TransferProperties transferProperties,
+                                     MeterRegistry registry) {
+        this.transferService = transferService;
+        this.submissionRepository = submissionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.transferMetrics = transferMetrics;
+
+        TransferProperties.Async async = transferProperties.getAsync();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                async.getWorkers(), async.getWorkers(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(async.getQueueCapacity()),
+                runnable -> {
+                    // Must not keep the JVM alive: unfinished submissions are recovered on the next start
+                    Thread thread = new Thread(runnable, "transfer-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("banking_transfer_async_queue_size", executor, e -> e.getQueue().size())
+                .description("Transfer submissions waiting for a worker")
+                .register(registry);
+    }
+
+    /**
+     * Store the transfer as PENDING and queue it
+     *  @param userUuid Identifier of the transfer requester
+     *  @param request  Transfer request details
+     *  @return Returns the current state of the submission (an existing one for a repeated transactionId)
+     */
+    public TransferSubmissionResponse submit(String userUuid, TransferRequest request) {
+        String txId = request.transactionId();
+
+        // Idempotency Check: a repeated submission reports the first one
+        TransferSubmission existing = submissionRepository.findByTransactionId(txId).orElse(null);
+        if (existing != null) {
+            if (!existing.getUserUuid().equals(userUuid)) {
+                throw new IllegalArgumentException("The transactionId is already in use.");
+            }
+            return TransferSubmissionResponse.from(existing);
+        }
+
+        // Cheap early push back before anything is written
+        if (executor.getQueue().remainingCapacity() == 0) {
+            transferMetrics.recordAsyncRejected();
+            throw new TransferQueueFullException("Too many transfers are waiting. Please try again later.");
+        }
+
+        TransferSubmission submission = submissionRepository.save(TransferSubmission.builder()
+                .transactionId(txId)
+                .userUuid(userUuid)
+                .toAccountNumber(request.toAccountNumber())
+                .amount(request.amount())
+                .build());
+
+        try {
+            executor.execute(() -> execute(userUuid, request));
+        } catch (RejectedExecutionException e) {
+            // Lost the race for the last queue slot: forget the submission so it can be resubmitted
+            submissionRepository.delete(submission);
+            transferMetrics.recordAsyncRejected();
+            throw new TransferQueueFullException("Too many transfers are waiting. Please try again later.");
+        }
+
+        log.info("transfer submitted - userUuid: {}, transactionId: {}", userUuid, txId);
+        return TransferSubmissionResponse.from(submission);
+    }
+
+    /**
+     * Status of a submission of the user
+     */
+    public TransferSubmissionResponse getSubmission(String userUuid, String transactionId) {
+        return submissionRepository.findByTransactionIdAndUserUuid(transactionId, userUuid)
+                .map(TransferSubmissionResponse::from)
+                .orElseThrow(() -> new EntityNotFoundException("Transfer submission not found."));
+    }
+
+    /**
+     * Re-queue submissions that were still PENDING when the previous instance stopped
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverPending() {
+        int recovered = 0;
+        for (TransferSubmission submission : submissionRepository.findByStatus(SubmissionStatus.PENDING)) {
+            TransferRequest request = new TransferRequest(
+                    submission.getToAccountNumber(), submission.getAmount(), submission.getTransactionId());
+            try {
+                executor.execute(() -> execute(submission.getUserUuid(), request));
+                recovered++;
+            } catch (RejectedExecutionException e) {
+                log.warn("Transfer queue full while recovering pending submissions - recovered: {}", recovered);
+                break;
+            }
+        }
+        if (recovered > 0) {
+            log.info("Pending transfer submissions re-queued: {}", recovered);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // Queued submissions never started: they stay PENDING and are recovered on the next start
+        executor.shutdown();
+        List<Runnable> queued = new ArrayList<>();
+        executor.getQueue().drainTo(queued);
+        if (!queued.isEmpty()) {
+            log.info("Transfer submissions left PENDING at shutdown: {}", queued.size());
+        }
+
+        // Running transfers finish and record their real outcome
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Transfer workers still running at shutdown, interrupting - active: {}", executor.getActiveCount());
+            executor.shutdownNow();
+        }
+    }
+
+    private void execute(String userUuid, TransferRequest request) {
+        String txId = request.transactionId();
+        try {
+            // ALREADY_PROCESSED also means the money has moved
+            transferService.transfer(userUuid, request);
+            updateSubmission(txId, null);
+        } catch (Exception e) {
+            if (isInterrupted(e)) {
+                // Stopped by shutdown before any money moved: stays PENDING for recovery
+                log.info("Submitted transfer interrupted, left PENDING - transactionId: {}", txId);
+                return;
+            }
+            // The client only sees the reason code; the cause stays in the log
+            SubmissionFailureReason reason = SubmissionFailureReason.of(e);
+            if (reason == SubmissionFailureReason.INTERNAL_ERROR) {
+                log.error("Submitted transfer failed - transactionId: {}", txId, e);
+            } else {
+                log.warn("Submitted transfer failed - transactionId: {}, reason: {}, cause: {}", txId, reason, e.getMessage());
+            }
+            updateSubmission(txId, reason.name());
+        }
+    }
+
+    private boolean isInterrupted(Throwable e) {
+        if (Thread.currentThread().isInterrupted()) {
+            return true;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void updateSubmission(String txId, String failureMessage) {
+        transactionTemplate.executeWithoutResult(status ->
+                submissionRepository.findByTransactionId(txId).ifPresent(submission -> {
+                    if (failureMessage == null) {
+                        submission.complete();
+                    } else {
+                        submission.fail(failureMessage);
+                    }
+                }));
+    }
+}
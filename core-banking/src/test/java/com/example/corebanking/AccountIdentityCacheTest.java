@@ -0,0 +1,101 @@
+package com.example.corebanking;
+
+import com.example.corebanking.account.domain.Account;
+import com.example.corebanking.account.repository.AccountRepository;
+import com.example.corebanking.account.service.AccountIdentityCache;
+import com.example.corebanking.common.money.Money;
+import com.example.corebanking.transfer.dto.TransferRequest;
+import com.example.corebanking.transfer.repository.TransferRepository;
+import com.example.corebanking.transfer.service.TransferService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class AccountIdentityCacheTest {
+
+    @Autowired private AccountIdentityCache accountIdentityCache;
+    @Autowired private TransferService transferService;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private TransferRepository transferRepository;
+
+    private final String SENDER_UUID = "identity-sender-uuid";
+    private final String RECIPIENT_UUID = "identity-recipient-uuid";
+
+    @BeforeEach
+    void setUp() {
+        transferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid(SENDER_UUID)
+                .accountNumber("7001")
+                .balance(Money.of(5000))
+                .build());
+
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid(RECIPIENT_UUID)
+                .accountNumber("7002")
+                .balance(Money.ZERO)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Identity cache: An unknown account number stays unknown until onAccountCreated.")
+    void unknown_number_is_cached_until_created() {
+        // given: looked up before the account exists
+        assertThat(accountIdentityCache.findIdByAccountNumber("7999")).isEmpty();
+
+        Account opened = accountRepository.saveAndFlush(Account.builder()
+                .userUuid("identity-late-uuid")
+                .accountNumber("7999")
+                .balance(Money.ZERO)
+                .build());
+
+        // then: the negative entry hides the new row...
+        assertThat(accountIdentityCache.findIdByAccountNumber("7999")).isEmpty();
+
+        // ...until the account opening invalidates it
+        accountIdentityCache.onAccountCreated("7999");
+        assertThat(accountIdentityCache.findIdByAccountNumber("7999")).contains(opened.getId());
+    }
+
+    @Test
+    @DisplayName("Identity cache: A transfer to a cached id whose row was replaced resolves again and succeeds.")
+    void stale_identity_is_resolved_again() {
+        // given: both identities cached, then the recipient row is re-created under a new id
+        Long staleId = accountIdentityCache.findIdByAccountNumber("7002").orElseThrow();
+        accountIdentityCache.findByUserUuid(SENDER_UUID).orElseThrow();
+
+        accountRepository.delete(accountRepository.findByAccountNumber("7002").orElseThrow());
+        Account replaced = accountRepository.saveAndFlush(Account.builder()
+                .userUuid(RECIPIENT_UUID)
+                .accountNumber("7002")
+                .balance(Money.ZERO)
+                .build());
+        assertThat(replaced.getId()).isNotEqualTo(staleId);
+
+        // when
+        transferService.transfer(SENDER_UUID, new TransferRequest("7002", Money.of(1000), UUID.randomUUID().toString()));
+
+        // then: the retry used the new row, moved the money once and refreshed the cache
+        assertThat(accountRepository.findByAccountNumber("7001").orElseThrow().getBalance())
+                .isEqualTo(Money.of(4000));
+        assertThat(accountRepository.findByAccountNumber("7002").orElseThrow().getBalance())
+                .isEqualTo(Money.of(1000));
+        assertThat(accountIdentityCache.findIdByAccountNumber("7002")).contains(replaced.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        transferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.corebanking;
+
+import com.example.corebanking.account.dto.AccountCreateRequest;
+import com.example.corebanking.account.dto.AccountResponse;
+import com.example.corebanking.account.repository.AccountNumberBlockRepository;
+import com.example.corebanking.account.repository.AccountRepository;
+import com.example.corebanking.account.service.AccountNumberGenerator;
+import com.example.corebanking.account.service.AccountService;
+import com.example.corebanking.common.money.Money;
+import com.example.corebanking.transfer.repository.TransferRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Small blocks so that the test crosses many block boundaries
+@SpringBootTest(properties = "banking.account.number-block.size=10")
+class AccountNumberGeneratorTest {
+
+    @Autowired private AccountNumberGenerator accountNumberGenerator;
+    @Autowired private AccountNumberBlockRepository accountNumberBlockRepository;
+    @Autowired private AccountService accountService;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private TransferRepository transferRepository;
+
+    @BeforeEach
+    void setUp() {
+        transferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Concurrent callers get unique, check-digit valid numbers across block refills")
+    void numbers_are_unique_and_valid() throws InterruptedException {
+        int threads = 8;
+        int perThread = 250;
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    numbers.add(accountNumberGenerator.nextAccountNumber());
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(numbers).hasSize(threads * perThread);
+        assertThat(numbers).allSatisfy(number -> {
+            assertThat(number).matches("0\\d{3}-\\d{4}-\\d{4}");
+            assertThat(AccountNumberGenerator.isValid(number)).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("The check digit catches a mistyped digit")
+    void check_digit_detects_typos() {
+        String number = accountNumberGenerator.nextAccountNumber();
+        String digits = number.replace("-", "");
+
+        char last = digits.charAt(10);
+        String mistyped = digits.substring(0, 10) + (char) ('0' + (last - '0' + 1) % 10) + digits.charAt(11);
+        assertThat(AccountNumberGenerator.isValid(mistyped)).isFalse();
+
+        assertThat(AccountNumberGenerator.isValid("1234-5678-9012")).isFalse();
+        assertThat(AccountNumberGenerator.isValid("0000-0000-0000")).isTrue();
+        assertThat(AccountNumberGenerator.isValid("0000-0000-001")).isFalse();
+    }
+
+    @Test
+    @DisplayName("The next block is leased in the background once half of the current one is used")
+    void next_block_is_prefetched() throws InterruptedException {
+        long serial;
+        do {
+            serial = Long.parseLong(accountNumberGenerator.nextAccountNumber().replace("-", "").substring(0, 11));
+        } while ((serial - 1) % 10 < 5);
+        long currentEnd = serial - (serial - 1) % 10 + 10;
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (nextSerial() < currentEnd + 10 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(nextSerial()).isEqualTo(currentEnd + 10);
+    }
+
+    @Test
+    @DisplayName("Opening accounts assigns generated numbers")
+    void createAccount_usesGeneratedNumber() {
+        List<AccountResponse> accounts = List.of(
+                accountService.createAccount("gen-user-1", new AccountCreateRequest("gen-user-1", Money.of(1000))),
+                accountService.createAccount("gen-user-2", new AccountCreateRequest("gen-user-2", Money.of(1000))));
+
+        assertThat(accounts).extracting(AccountResponse::accountNumber)
+                .doesNotHaveDuplicates()
+                .allMatch(AccountNumberGenerator::isValid);
+    }
+
+    private long nextSerial() {
+        return accountNumberBlockRepository.findById("account").orElseThrow().getNextSerial();
+    }
+}
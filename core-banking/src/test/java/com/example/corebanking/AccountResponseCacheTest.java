@@ -0,0 +1,105 @@
+package com.example.corebanking;
+
+import com.example.corebanking.account.domain.Account;
+import com.example.corebanking.account.repository.AccountRepository;
+import com.example.corebanking.account.service.AccountResponseCache;
+import com.example.corebanking.account.service.AccountService;
+import com.example.corebanking.common.money.Money;
+import com.example.corebanking.transfer.dto.TransferRequest;
+import com.example.corebanking.transfer.repository.TransferRepository;
+import com.example.corebanking.transfer.service.TransferService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class AccountResponseCacheTest {
+
+    @Autowired private AccountService accountService;
+    @Autowired private TransferService transferService;
+    @Autowired private AccountResponseCache accountResponseCache;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private TransferRepository transferRepository;
+    @Autowired private MeterRegistry meterRegistry;
+
+    private final String SENDER_UUID = "cache-sender-uuid";
+    private final String RECIPIENT_UUID = "cache-recipient-uuid";
+
+    @BeforeEach
+    void setUp() {
+        transferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+        accountResponseCache.invalidateAll();
+
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid(SENDER_UUID)
+                .accountNumber("1111")
+                .balance(Money.of(10000))
+                .build());
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid(RECIPIENT_UUID)
+                .accountNumber("2222")
+                .balance(Money.ZERO)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        transferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Repeated inquiries are served from memory (by account number and by userUuid)")
+    void repeatedReads_hitTheCache() {
+        double hitsBefore = cacheGets("hit");
+
+        accountService.getAccount("1111");
+        accountService.getAccount("1111");
+        accountService.getAccountByUserUuid(SENDER_UUID);
+
+        assertThat(cacheGets("hit")).isEqualTo(hitsBefore + 2);
+    }
+
+    @Test
+    @DisplayName("A committed transfer drops the cached balances of both accounts")
+    void transfer_invalidatesBothAccounts() {
+        assertThat(accountService.getAccountByUserUuid(SENDER_UUID).balance()).isEqualTo(Money.of(10000));
+        assertThat(accountService.getAccount("2222").balance()).isEqualTo(Money.ZERO);
+
+        transferService.transfer(SENDER_UUID, new TransferRequest("2222", Money.of(3000), UUID.randomUUID().toString()));
+
+        assertThat(accountService.getAccountByUserUuid(SENDER_UUID).balance()).isEqualTo(Money.of(7000));
+        assertThat(accountService.getAccount("2222").balance()).isEqualTo(Money.of(3000));
+    }
+
+    @Test
+    @DisplayName("A batch transfer drops the cached balances once its transaction commits")
+    void batch_invalidatesAfterCommit() {
+        accountService.getAccount("1111");
+        accountService.getAccount("2222");
+
+        transferService.transferBatch(SENDER_UUID, List.of(
+                new TransferRequest("2222", Money.of(1000), UUID.randomUUID().toString()),
+                new TransferRequest("2222", Money.of(2000), UUID.randomUUID().toString())));
+
+        assertThat(accountService.getAccount("1111").balance()).isEqualTo(Money.of(7000));
+        assertThat(accountService.getAccount("2222").balance()).isEqualTo(Money.of(3000));
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "account_response")
+                .tag("result", result)
+                .functionCounter().count();
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.corebanking;
+
+import com.example.corebanking.account.domain.Account;
+import com.example.corebanking.account.dto.BulkAccountFailure;
+import com.example.corebanking.account.dto.BulkAccountResponse;
+import com.example.corebanking.account.repository.AccountRepository;
+import com.example.corebanking.account.service.AccountNumberGenerator;
+import com.example.corebanking.account.service.BulkAccountService;
+import com.example.corebanking.account.service.BulkAccountService.InputFormat;
+import com.example.corebanking.common.money.Money;
+import com.example.corebanking.transfer.repository.TransferRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Batches of 2 so that a bad record lands in a batch with good ones
+@SpringBootTest(properties = {
+        "banking.account.bulk.batch-size=2",
+        "banking.account.bulk.operators=bulk-operator"
+})
+class BulkAccountTest {
+
+    private static final String OPERATOR = "bulk-operator";
+
+    @Autowired private BulkAccountService bulkAccountService;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private TransferRepository transferRepository;
+
+    @BeforeEach
+    void setUp() {
+        transferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid("existing-user")
+                .accountNumber("1111")
+                .balance(Money.of(5000))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        transferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("NDJSON: valid records are opened, bad ones are reported with their line and the run goes on")
+    void ndjson_reportsPerRecordFailures() throws Exception {
+        String body = """
+                {"userUuid": "bulk-user-1", "initialBalance": 1000}
+                {"userUuid": "existing-user", "initialBalance": 2000}
+                not json
+                {"userUuid": "bulk-user-2", "initialBalance": 500}
+
+                {"userUuid": "bulk-user-3", "initialBalance": 3000.50}
+                {"userUuid": "bulk-user-1", "initialBalance": 1000}
+                """;
+
+        BulkAccountResponse response = bulkAccountService.openAccounts(OPERATOR, InputFormat.NDJSON, stream(body));
+
+        assertThat(response.total()).isEqualTo(6);
+        assertThat(response.created()).isEqualTo(2);
+        assertThat(response.failed()).isEqualTo(4);
+        assertThat(response.failures()).extracting(BulkAccountFailure::line).containsExactly(2L, 3L, 4L, 7L);
+
+        Account opened = accountRepository.findByUserUuid("bulk-user-3").orElseThrow();
+        assertThat(opened.getBalance()).isEqualTo(Money.parse("3000.50"));
+        assertThat(AccountNumberGenerator.isValid(opened.getAccountNumber())).isTrue();
+        assertThat(accountRepository.findByUserUuid("bulk-user-1")).isPresent();
+        assertThat(accountRepository.findByUserUuid("existing-user").orElseThrow().getBalance())
+                .isEqualTo(Money.of(5000));
+        assertThat(accountRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("CSV: the header row is skipped and quoted fields are accepted")
+    void csv_opensAccounts() throws Exception {
+        String body = """
+                userUuid,initialBalance
+                csv-user-1,1000
+                "csv-user-2",2500.00
+                csv-user-3
+                """;
+
+        BulkAccountResponse response = bulkAccountService.openAccounts(OPERATOR, InputFormat.CSV, stream(body));
+
+        assertThat(response.total()).isEqualTo(3);
+        assertThat(response.created()).isEqualTo(2);
+        assertThat(response.failures()).extracting(BulkAccountFailure::line).containsExactly(4L);
+        assertThat(accountRepository.findByUserUuid("csv-user-2").orElseThrow().getBalance())
+                .isEqualTo(Money.of(2500));
+    }
+
+    @Test
+    @DisplayName("Only configured operators may open accounts in bulk")
+    void nonOperator_isRejected() {
+        assertThatThrownBy(() -> bulkAccountService.openAccounts("someone-else", InputFormat.CSV,
+                stream("csv-user-1,1000\n")))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThat(accountRepository.findByUserUuid("csv-user-1")).isEmpty();
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
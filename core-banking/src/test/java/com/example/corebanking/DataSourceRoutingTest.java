@@ -0,0 +1,183 @@
+package com.example.corebanking;
+
+import com.example.corebanking.account.domain.Account;
+import com.example.corebanking.account.repository.AccountRepository;
+import com.example.corebanking.account.service.AccountResponseCache;
+import com.example.corebanking.account.service.AccountService;
+import com.example.corebanking.common.datasource.ReadYourWritesTracker;
+import com.example.corebanking.common.datasource.ReplicaFallbackDataSource;
+import com.example.corebanking.common.money.Money;
+import com.example.corebanking.transfer.dto.TransferRequest;
+import com.example.corebanking.transfer.repository.TransferRepository;
+import com.example.corebanking.transfer.service.TransferService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The "replica" is the test database itself: routing is observed through the route counters
+@SpringBootTest(properties = {
+        "banking.datasource.replica.enabled=true",
+        "banking.datasource.replica.url=${spring.datasource.url}",
+        "banking.datasource.replica.username=${spring.datasource.username}",
+        "banking.datasource.replica.password=${spring.datasource.password}",
+        "banking.datasource.replica.driver-class-name=${spring.datasource.driver-class-name}"
+})
+class DataSourceRoutingTest {
+
+    private static final String SENDER_UUID = "routing-sender";
+
+    @Autowired private AccountService accountService;
+    @Autowired private AccountResponseCache accountResponseCache;
+    @Autowired private TransferService transferService;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private TransferRepository transferRepository;
+    @Autowired private ReadYourWritesTracker readYourWritesTracker;
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired @Qualifier("primaryDataSource") private DataSource primaryDataSource;
+
+    @BeforeEach
+    void setUp() {
+        transferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+        // Rows are recreated behind the application's back
+        accountResponseCache.invalidateAll();
+
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid(SENDER_UUID)
+                .accountNumber("1111")
+                .balance(Money.of(10000))
+                .build());
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid("routing-recipient")
+                .accountNumber("2222")
+                .balance(Money.ZERO)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        transferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Read-only transactions are served by the replica")
+    void readOnly_goesToReplica() {
+        double before = routes("replica", "replica");
+
+        accountService.getAccount("2222");
+
+        assertThat(routes("replica", "replica")).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("After a transfer, the sender's reads stay on the primary for the read-your-writes window")
+    void readYourWrites_pinsWriterToPrimary() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(SENDER_UUID, null, List.of()));
+        transferService.transfer(SENDER_UUID, new TransferRequest("2222", Money.of(1000), UUID.randomUUID().toString()));
+        double replicaBefore = routes("replica", "replica");
+        double pinnedBefore = routes("primary", "read_your_writes");
+
+        assertThat(accountService.getAccountByUserUuid(SENDER_UUID).balance()).isEqualTo(Money.of(9000));
+
+        assertThat(routes("primary", "read_your_writes")).isEqualTo(pinnedBefore + 1);
+        assertThat(routes("replica", "replica")).isEqualTo(replicaBefore);
+    }
+
+    @Test
+    @DisplayName("A replica that refuses connections falls back to the primary and is skipped for retry-after")
+    void replicaDown_fallsBackToPrimary() throws SQLException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DownDataSource replica = new DownDataSource();
+        ReplicaFallbackDataSource dataSource = new ReplicaFallbackDataSource(
+                primaryDataSource, replica, readYourWritesTracker, Duration.ofMinutes(1), registry);
+
+        try (Connection first = dataSource.getConnection(); Connection second = dataSource.getConnection()) {
+            assertThat(first.isValid(1)).isTrue();
+            assertThat(second.isValid(1)).isTrue();
+        }
+
+        assertThat(replica.attempts).isEqualTo(1);
+        assertThat(registry.get("banking_datasource_read_route_total")
+                .tag("reason", "replica_unavailable").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Explicit credentials are passed on, with the same fallback to the primary")
+    void credentials_arePassedOn() throws SQLException {
+        DownDataSource replica = new DownDataSource();
+        CredentialsDataSource primary = new CredentialsDataSource(primaryDataSource);
+        ReplicaFallbackDataSource dataSource = new ReplicaFallbackDataSource(
+                primary, replica, readYourWritesTracker, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+        try (Connection connection = dataSource.getConnection("reporting", "secret")) {
+            assertThat(connection.isValid(1)).isTrue();
+        }
+
+        assertThat(replica.attempts).isEqualTo(1);
+        assertThat(primary.username).isEqualTo("reporting");
+    }
+
+    private double routes(String target, String reason) {
+        return meterRegistry.get("banking_datasource_read_route_total")
+                .tag("target", target)
+                .tag("reason", reason)
+                .counter().count();
+    }
+
+    private static class DownDataSource extends AbstractDataSource {
+        private int attempts;
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            attempts++;
+            throw new SQLException("replica is down");
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+    }
+
+    // Hikari does not take per-call credentials: record them and hand out a pooled connection
+    private static class CredentialsDataSource extends AbstractDataSource {
+        private final DataSource target;
+        private String username;
+
+        CredentialsDataSource(DataSource target) {
+            this.target = target;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return target.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            this.username = username;
+            return target.getConnection();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.corebanking;
+
+import com.example.corebanking.common.idempotency.InMemoryIdempotencyStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryIdempotencyStoreTest {
+
+    private final InMemoryIdempotencyStore store = new InMemoryIdempotencyStore();
+
+    @Test
+    @DisplayName("A transactionId can be reserved only once while the reservation is alive")
+    void reserve_only_once() {
+        assertThat(store.reserve("TX-1", Duration.ofMinutes(1))).isTrue();
+        assertThat(store.reserve("TX-1", Duration.ofMinutes(1))).isFalse();
+        assertThat(store.reserve("TX-2", Duration.ofMinutes(1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("A released or expired transactionId can be reserved again")
+    void reserve_after_release_or_expiry() throws InterruptedException {
+        store.reserve("TX-1", Duration.ofMinutes(1));
+        store.release("TX-1");
+        assertThat(store.reserve("TX-1", Duration.ofMinutes(1))).isTrue();
+
+        store.reserve("TX-2", Duration.ofMillis(1));
+        Thread.sleep(5);
+        assertThat(store.reserve("TX-2", Duration.ofMinutes(1))).isTrue();
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.corebanking;
+
+import com.example.corebanking.common.money.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.boot.test.json.JacksonTester;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JsonTest // Jackson + @JsonComponent only: no database
+class MoneyJsonTest {
+
+    @Autowired private JacksonTester<Money> json;
+
+    @Test
+    @DisplayName("Money: JSON keeps the numeric wire format in both directions.")
+    void money_json() throws Exception {
+        assertThat(json.write(Money.of(1000)).getJson()).isEqualTo("1000.00");
+        assertThat(json.parseObject("1000")).isEqualTo(Money.of(1000));
+        assertThat(json.parseObject("10.25")).isEqualTo(Money.ofMinor(1_025));
+        assertThat(json.parseObject("\"10.25\"")).isEqualTo(Money.ofMinor(1_025));
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.corebanking;
+
+import com.example.corebanking.common.money.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    @DisplayName("Money: Plain decimals are parsed into minor units without rounding.")
+    void money_parse() {
+        assertThat(Money.parse("1000")).isEqualTo(Money.ofMinor(100_000));
+        assertThat(Money.parse("12.5")).isEqualTo(Money.ofMinor(1_250));
+        assertThat(Money.parse("-0.05")).isEqualTo(Money.ofMinor(-5));
+        assertThat(Money.parse("1.500")).isEqualTo(Money.ofMinor(150));
+        assertThat(Money.of(new BigDecimal("1234.56"))).isEqualTo(Money.parse("1234.56"));
+        assertThat(Money.ofMinor(-5).toString()).isEqualTo("-0.05");
+
+        assertThatThrownBy(() -> Money.parse("0.001")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Money.parse("1,000")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Money.parse("99999999999999999999")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Money: Arithmetic is overflow-checked instead of wrapping around.")
+    void money_overflow() {
+        Money max = Money.ofMinor(Long.MAX_VALUE);
+
+        assertThat(Money.of(3000).subtract(Money.of(1000))).isEqualTo(Money.of(2000));
+        assertThatThrownBy(() -> max.add(Money.ofMinor(1))).isInstanceOf(ArithmeticException.class);
+    }
+}
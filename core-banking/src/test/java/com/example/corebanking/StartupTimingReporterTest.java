@@ -0,0 +1,68 @@
+package com.example.corebanking;
+
+import com.example.corebanking.common.metrics.StartupTimingReporter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupTimingReporterTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final StartupTimingReporter reporter = new StartupTimingReporter(registry);
+
+    @Test
+    @DisplayName("Startup report: Ready time is exported once the application is ready.")
+    void ready_time_is_exported() {
+        assertThat(gauge("banking_startup_ready")).isNaN();
+
+        reporter.onReady();
+
+        assertThat(gauge("banking_startup_ready")).isPositive();
+    }
+
+    @Test
+    @DisplayName("Startup report: Only the first request is timed.")
+    void only_first_request_is_timed() throws Exception {
+        assertThat(gauge("banking_startup_first_request")).isNaN();
+
+        reporter.doFilter(new MockHttpServletRequest("GET", "/banking/accounts/me"), new MockHttpServletResponse(),
+                new MockFilterChain(new SleepingServlet(50)));
+        double first = gauge("banking_startup_first_request");
+
+        reporter.doFilter(new MockHttpServletRequest("GET", "/banking/accounts/me"), new MockHttpServletResponse(),
+                new MockFilterChain(new SleepingServlet(200)));
+
+        assertThat(first).isGreaterThanOrEqualTo(0.05);
+        assertThat(gauge("banking_startup_first_request")).isEqualTo(first);
+    }
+
+    private double gauge(String name) {
+        return registry.get(name).gauge().value();
+    }
+
+    private static class SleepingServlet extends HttpServlet {
+        private final long millis;
+
+        SleepingServlet(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        protected void service(HttpServletRequest req, HttpServletResponse resp) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
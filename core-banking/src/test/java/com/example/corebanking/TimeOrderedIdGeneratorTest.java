@@ -0,0 +1,64 @@
+package com.example.corebanking;
+
+import com.example.corebanking.common.id.TimeOrderedIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    @DisplayName("Ids of one node strictly increase, even beyond 4096 ids in the same millisecond")
+    void ids_are_increasing() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(7);
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 20_000; i++) {
+            long next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("The node id is encoded in bits 12..21, so two nodes never produce the same id")
+    void node_id_is_encoded() {
+        assertThat((new TimeOrderedIdGenerator(5).nextId() >>> 12) & 1023).isEqualTo(5);
+        assertThat((new TimeOrderedIdGenerator(1023).nextId() >>> 12) & 1023).isEqualTo(1023);
+
+        assertThatThrownBy(() -> new TimeOrderedIdGenerator(1024))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TimeOrderedIdGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Concurrent callers never receive the same id")
+    void ids_are_unique_across_threads() throws InterruptedException {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int perThread = 10_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(generator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(ids).hasSize(threads * perThread);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.corebanking;
+
+import com.example.corebanking.account.domain.Account;
+import com.example.corebanking.account.repository.AccountRepository;
+import com.example.corebanking.common.idempotency.IdempotencyStore;
+import com.example.corebanking.common.money.Money;
+import com.example.corebanking.transfer.dto.BatchTransferResponse;
+import com.example.corebanking.transfer.dto.TransferRequest;
+import com.example.corebanking.transfer.repository.TransferRepository;
+import com.example.corebanking.transfer.service.TransferService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TransferBatchTest {
+
+    @Autowired private TransferService transferService;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private TransferRepository transferRepository;
+    @Autowired private IdempotencyStore idempotencyStore;
+
+    private final String SENDER_UUID = "batch-sender-uuid";
+
+    @BeforeEach
+    void setUp() {
+        transferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid(SENDER_UUID)
+                .accountNumber("1111")
+                .balance(Money.of(5000))
+                .build());
+
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid("batch-recipient-a")
+                .accountNumber("2222")
+                .balance(Money.ZERO)
+                .build());
+
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid("batch-recipient-b")
+                .accountNumber("3333")
+                .balance(Money.ZERO)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Batch transfer: Each item gets its own result and failed items move no money.")
+    void transfer_batch_per_item_results() {
+        // given
+        String duplicateTxId = UUID.randomUUID().toString();
+        List<TransferRequest> requests = List.of(
+                new TransferRequest("2222", Money.of(1000), duplicateTxId),
+                new TransferRequest("3333", Money.of(2000), UUID.randomUUID().toString()),
+                new TransferRequest("2222", Money.of(1000), duplicateTxId),           // duplicate in batch
+                new TransferRequest("9999", Money.of(1000), UUID.randomUUID().toString()), // unknown account
+                new TransferRequest("3333", Money.of(9000), UUID.randomUUID().toString())  // insufficient
+        );
+
+        // when
+        BatchTransferResponse response = transferService.transferBatch(SENDER_UUID, requests);
+
+        // then
+        assertThat(response.results()).extracting("status")
+                .containsExactly("SUCCESS", "SUCCESS", "ALREADY_PROCESSED", "FAIL", "FAIL");
+        assertThat(response.failed()).isEqualTo(2);
+
+        assertThat(accountRepository.findByAccountNumber("1111").orElseThrow().getBalance())
+                .isEqualByComparingTo(Money.of(2000));
+        assertThat(accountRepository.findByAccountNumber("2222").orElseThrow().getBalance())
+                .isEqualByComparingTo(Money.of(1000));
+        assertThat(accountRepository.findByAccountNumber("3333").orElseThrow().getBalance())
+                .isEqualByComparingTo(Money.of(2000));
+        assertThat(transferRepository.count()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Batch transfer: A failed item does not release the transaction id of a later item that succeeded.")
+    void transfer_batch_keeps_reservation_of_succeeded_id() {
+        // given: the same id first fails (insufficient balance), then succeeds
+        String txId = UUID.randomUUID().toString();
+        List<TransferRequest> requests = List.of(
+                new TransferRequest("2222", Money.of(9000), txId),
+                new TransferRequest("2222", Money.of(1000), txId)
+        );
+
+        // when
+        BatchTransferResponse response = transferService.transferBatch(SENDER_UUID, requests);
+
+        // then
+        assertThat(response.results()).extracting("status").containsExactly("FAIL", "SUCCESS");
+        assertThat(idempotencyStore.reserve(txId, Duration.ofMinutes(1))).isFalse();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+}
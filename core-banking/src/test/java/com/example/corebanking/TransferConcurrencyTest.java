@@ -2,6 +2,7 @@ package com.example.corebanking;
 
 import com.example.corebanking.account.domain.Account;
 import com.example.corebanking.account.repository.AccountRepository;
+import com.example.corebanking.common.money.Money;
 import com.example.corebanking.transfer.dto.TransferRequest;
 import com.example.corebanking.transfer.repository.TransferRepository;
 import com.example.corebanking.transfer.service.TransferService;
@@ -12,7 +13,6 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -39,13 +39,13 @@ class TransferConcurrencyTest {
         accountRepository.saveAndFlush(Account.builder()
                 .userUuid(SENDER_UUID)
                 .accountNumber("1111")
-                .balance(BigDecimal.valueOf(1000))
+                .balance(Money.of(1000))
                 .build());
 
         accountRepository.saveAndFlush(Account.builder()
                 .userUuid(RECIPIENT_UUID)
                 .accountNumber("2222")
-                .balance(BigDecimal.ZERO)
+                .balance(Money.ZERO)
                 .build());
     }
 
@@ -62,7 +62,7 @@ class TransferConcurrencyTest {
                 try {
                     transferService.transfer(
                             SENDER_UUID,
-                            new TransferRequest("2222", BigDecimal.valueOf(10), UUID.randomUUID().toString())
+                            new TransferRequest("2222", Money.of(10), UUID.randomUUID().toString())
                     );
                 } catch (Exception e) {
                     System.err.println("Transfer failed.: " + e.getMessage());
@@ -82,8 +82,8 @@ class TransferConcurrencyTest {
         // [Expected Result]
         // Sender: 1000 yen - (10 yen * 100 times) = 0 yen
         // Recipient: 0 yen + (10 yen * 100 times) = 1,000 yen
-        assertThat(sender.getBalance()).isEqualByComparingTo(BigDecimal.ZERO);
-        assertThat(recipient.getBalance()).isEqualByComparingTo(BigDecimal.valueOf(1000));
+        assertThat(sender.getBalance()).isEqualByComparingTo(Money.ZERO);
+        assertThat(recipient.getBalance()).isEqualByComparingTo(Money.of(1000));
         assertThat(transferRepository.count()).isEqualTo(100L);
     }
 
@@ -0,0 +1,109 @@
+package com.example.corebanking;
+
+import com.example.corebanking.account.domain.Account;
+import com.example.corebanking.account.repository.AccountRepository;
+import com.example.corebanking.common.money.Money;
+import com.example.corebanking.transfer.dto.TransferRequest;
+import com.example.corebanking.transfer.repository.TransferRepository;
+import com.example.corebanking.transfer.service.TransferService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "banking.transfer.strategy=CONDITIONAL_UPDATE",
+        "banking.transfer.lane.enabled=false"
+})
+class TransferConditionalUpdateTest {
+
+    @Autowired private TransferService transferService;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private TransferRepository transferRepository;
+
+    private final String SENDER_UUID = "conditional-sender-uuid";
+    private final String RECIPIENT_UUID = "conditional-recipient-uuid";
+
+    @BeforeEach
+    void setUp() {
+        transferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid(SENDER_UUID)
+                .accountNumber("1111")
+                .balance(Money.of(1000))
+                .build());
+
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid(RECIPIENT_UUID)
+                .accountNumber("2222")
+                .balance(Money.ZERO)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Conditional update mode: 100 concurrent transfers of 10 yen leave no lost update.")
+    void transfer_conditional_update_concurrency_test() throws InterruptedException {
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    transferService.transfer(
+                            SENDER_UUID,
+                            new TransferRequest("2222", Money.of(10), UUID.randomUUID().toString())
+                    );
+                } catch (Exception e) {
+                    System.err.println("Transfer failed.: " + e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+
+        Account sender = accountRepository.findByAccountNumber("1111").orElseThrow();
+        Account recipient = accountRepository.findByAccountNumber("2222").orElseThrow();
+
+        assertThat(sender.getBalance()).isEqualByComparingTo(Money.ZERO);
+        assertThat(recipient.getBalance()).isEqualByComparingTo(Money.of(1000));
+        assertThat(transferRepository.count()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("Conditional update mode: Insufficient balance fails and the credit issued first is rolled back.")
+    void transfer_conditional_update_insufficient_balance() {
+        // Recipient (higher id) -> Sender (lower id): the credit is issued before the guarded debit
+        TransferRequest request = new TransferRequest("1111", Money.of(500), UUID.randomUUID().toString());
+
+        assertThatThrownBy(() -> transferService.transfer(RECIPIENT_UUID, request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Insufficient balance.");
+
+        assertThat(accountRepository.findByAccountNumber("1111").orElseThrow().getBalance())
+                .isEqualByComparingTo(Money.of(1000));
+        assertThat(accountRepository.findByAccountNumber("2222").orElseThrow().getBalance())
+                .isEqualByComparingTo(Money.ZERO);
+        assertThat(transferRepository.count()).isZero();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+}
@@ -2,6 +2,7 @@ package com.example.corebanking;
 
 import com.example.corebanking.account.domain.Account;
 import com.example.corebanking.account.repository.AccountRepository;
+import com.example.corebanking.common.money.Money;
 import com.example.corebanking.transfer.dto.TransferRequest;
 import com.example.corebanking.transfer.repository.TransferRepository;
 import com.example.corebanking.transfer.service.TransferService;
@@ -12,7 +13,6 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -44,13 +44,13 @@ class TransferDeadlockTest {
         accountRepository.saveAndFlush(Account.builder()
                 .userUuid(USER_A_UUID)
                 .accountNumber("1111")
-                .balance(BigDecimal.valueOf(10000))
+                .balance(Money.of(10000))
                 .build());
 
         accountRepository.saveAndFlush(Account.builder()
                 .userUuid(USER_B_UUID)
                 .accountNumber("2222")
-                .balance(BigDecimal.valueOf(10000))
+                .balance(Money.of(10000))
                 .build());
     }
 
@@ -66,7 +66,7 @@ class TransferDeadlockTest {
         executorService.submit(() -> {
             try {
                 transferService.transfer(USER_A_UUID,
-                        new TransferRequest("2222", BigDecimal.valueOf(3000), UUID.randomUUID().toString()));
+                        new TransferRequest("2222", Money.of(3000), UUID.randomUUID().toString()));
             } catch (Exception e) {
                 System.err.println("Thread 1 Error: " + e.getMessage());
             } finally {
@@ -78,7 +78,7 @@ class TransferDeadlockTest {
         executorService.submit(() -> {
             try {
                 transferService.transfer(USER_B_UUID,
-                        new TransferRequest("1111", BigDecimal.valueOf(2000), UUID.randomUUID().toString()));
+                        new TransferRequest("1111", Money.of(2000), UUID.randomUUID().toString()));
             } catch (Exception e) {
                 System.err.println("Thread 2 Error: " + e.getMessage());
             } finally {
@@ -96,8 +96,8 @@ class TransferDeadlockTest {
         Account accountA = accountRepository.findByAccountNumber("1111").orElseThrow();
         Account accountB = accountRepository.findByAccountNumber("2222").orElseThrow();
 
-        assertThat(accountA.getBalance()).isEqualByComparingTo(BigDecimal.valueOf(9000));
-        assertThat(accountB.getBalance()).isEqualByComparingTo(BigDecimal.valueOf(11000));
+        assertThat(accountA.getBalance()).isEqualByComparingTo(Money.of(9000));
+        assertThat(accountB.getBalance()).isEqualByComparingTo(Money.of(11000));
     }
 
     @AfterEach
@@ -0,0 +1,94 @@
+package com.example.corebanking;
+
+import com.example.corebanking.account.domain.Account;
+import com.example.corebanking.account.repository.AccountRepository;
+import com.example.corebanking.common.money.Money;
+import com.example.corebanking.transfer.dto.TransferRequest;
+import com.example.corebanking.transfer.repository.TransferRepository;
+import com.example.corebanking.transfer.service.TransferExportService.ExportFormat;
+import com.example.corebanking.transfer.service.TransferExportService;
+import com.example.corebanking.transfer.service.TransferService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TransferExportTest {
+
+    @Autowired private TransferService transferService;
+    @Autowired private TransferExportService transferExportService;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private TransferRepository transferRepository;
+    @Autowired private ObjectMapper objectMapper;
+
+    private final String SENDER_UUID = "export-sender-uuid";
+
+    @BeforeEach
+    void setUp() {
+        transferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid(SENDER_UUID)
+                .accountNumber("1111")
+                .balance(Money.of(10000))
+                .build());
+
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid("export-recipient-uuid")
+                .accountNumber("2222")
+                .balance(Money.ZERO)
+                .build());
+
+        for (int i = 0; i < 3; i++) {
+            transferService.transfer(SENDER_UUID,
+                    new TransferRequest("2222", Money.of(100), UUID.randomUUID().toString()));
+        }
+    }
+
+    @Test
+    @DisplayName("Export: Every transfer is streamed as one NDJSON line.")
+    void export_ndjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = transferExportService.export(SENDER_UUID, ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(3L);
+        assertThat(lines).hasSize(3);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("fromAccountNumber").asText()).isEqualTo("1111");
+        assertThat(first.get("toAccountNumber").asText()).isEqualTo("2222");
+    }
+
+    @Test
+    @DisplayName("Export: CSV starts with a header row followed by one row per transfer.")
+    void export_csv() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        transferExportService.export(SENDER_UUID, ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(4);
+        assertThat(lines[0]).startsWith("transactionId,");
+        assertThat(lines[1]).contains(",1111,2222,");
+    }
+
+    @AfterEach
+    void tearDown() {
+        transferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.corebanking;
+
+import com.example.corebanking.account.domain.Account;
+import com.example.corebanking.account.repository.AccountRepository;
+import com.example.corebanking.common.money.Money;
+import com.example.corebanking.transfer.dto.TransferPageResponse;
+import com.example.corebanking.transfer.dto.TransferRequest;
+import com.example.corebanking.transfer.dto.TransferResponse;
+import com.example.corebanking.transfer.repository.TransferRepository;
+import com.example.corebanking.transfer.service.TransferService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class TransferHistoryPaginationTest {
+
+    @Autowired private TransferService transferService;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private TransferRepository transferRepository;
+
+    private final String SENDER_UUID = "history-sender-uuid";
+
+    @BeforeEach
+    void setUp() {
+        transferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid(SENDER_UUID)
+                .accountNumber("1111")
+                .balance(Money.of(10000))
+                .build());
+
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid("history-recipient-uuid")
+                .accountNumber("2222")
+                .balance(Money.ZERO)
+                .build());
+
+        for (int i = 1; i <= 5; i++) {
+            transferService.transfer(SENDER_UUID,
+                    new TransferRequest("2222", Money.of(100), "HISTORY-TX-" + i + "-" + System.nanoTime()));
+        }
+    }
+
+    @Test
+    @DisplayName("Keyset pagination: Pages follow each other without gaps or duplicates, newest first.")
+    void transfer_history_pages() {
+        List<TransferResponse> collected = new ArrayList<>();
+
+        TransferPageResponse first = transferService.getTransfersByUser(SENDER_UUID, null, 2);
+        collected.addAll(first.transfers());
+        assertThat(first.hasNext()).isTrue();
+
+        TransferPageResponse second = transferService.getTransfersByUser(SENDER_UUID, first.nextCursor(), 2);
+        collected.addAll(second.transfers());
+        assertThat(second.hasNext()).isTrue();
+
+        TransferPageResponse last = transferService.getTransfersByUser(SENDER_UUID, second.nextCursor(), 2);
+        collected.addAll(last.transfers());
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.nextCursor()).isNull();
+
+        assertThat(collected).hasSize(5);
+        assertThat(collected).extracting(TransferResponse::transactionId).doesNotHaveDuplicates();
+        assertThat(collected).extracting(TransferResponse::transferredAt)
+                .isSortedAccordingTo((a, b) -> b.compareTo(a));
+    }
+
+    @Test
+    @DisplayName("Keyset pagination: A tampered cursor is rejected as a bad request.")
+    void transfer_history_invalid_cursor() {
+        assertThatThrownBy(() -> transferService.getTransfersByUser(SENDER_UUID, "not-a-cursor", 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.corebanking;
+
+import com.example.corebanking.account.domain.Account;
+import com.example.corebanking.account.repository.AccountBalanceSlotRepository;
+import com.example.corebanking.account.repository.AccountRepository;
+import com.example.corebanking.account.service.AccountResponseCache;
+import com.example.corebanking.account.service.AccountService;
+import com.example.corebanking.account.service.HotAccountLedger;
+import com.example.corebanking.common.money.Money;
+import com.example.corebanking.transfer.dto.TransferRequest;
+import com.example.corebanking.transfer.repository.TransferRepository;
+import com.example.corebanking.transfer.service.TransferService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TransferHotAccountTest {
+
+    @Autowired private TransferService transferService;
+    @Autowired private AccountService accountService;
+    @Autowired private AccountResponseCache accountResponseCache;
+    @Autowired private HotAccountLedger hotAccountLedger;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private AccountBalanceSlotRepository slotRepository;
+    @Autowired private TransferRepository transferRepository;
+
+    private final int SENDER_COUNT = 20;
+    private final String MERCHANT_UUID = "hot-merchant-uuid";
+
+    @BeforeEach
+    void setUp() {
+        transferRepository.deleteAllInBatch();
+        slotRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+        // Rows are recreated behind the application's back
+        accountResponseCache.invalidateAll();
+
+        for (int i = 0; i < SENDER_COUNT; i++) {
+            accountRepository.saveAndFlush(Account.builder()
+                    .userUuid("hot-sender-" + i)
+                    .accountNumber("1000-" + i)
+                    .balance(Money.of(100))
+                    .build());
+        }
+
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid(MERCHANT_UUID)
+                .accountNumber("9000")
+                .balance(Money.ZERO)
+                .build());
+
+        hotAccountLedger.designate("9000");
+    }
+
+    @Test
+    @DisplayName("Hot account: Concurrent credits land in slots, and debits sweep them back.")
+    void transfer_hot_account_sub_ledger() throws InterruptedException {
+        // when: every sender pays the merchant at the same time
+        ExecutorService executorService = Executors.newFixedThreadPool(SENDER_COUNT);
+        CountDownLatch latch = new CountDownLatch(SENDER_COUNT);
+        for (int i = 0; i < SENDER_COUNT; i++) {
+            String senderUuid = "hot-sender-" + i;
+            executorService.submit(() -> {
+                try {
+                    transferService.transfer(senderUuid,
+                            new TransferRequest("9000", Money.of(100), UUID.randomUUID().toString()));
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then: the accounts row was never credited, the slots hold everything
+        assertThat(accountRepository.findByAccountNumber("9000").orElseThrow().getBalance())
+                .isEqualTo(Money.ZERO);
+        assertThat(accountService.getAccount("9000").balance()).isEqualTo(Money.of(2000));
+
+        // when: the merchant pays out more than its main row holds
+        transferService.transfer(MERCHANT_UUID,
+                new TransferRequest("1000-0", Money.of(1500), UUID.randomUUID().toString()));
+
+        // then
+        assertThat(accountService.getAccount("9000").balance()).isEqualTo(Money.of(500));
+        assertThat(accountService.getAccount("1000-0").balance()).isEqualTo(Money.of(1500));
+
+        // when: the designation is released, the slots are folded into the accounts row
+        hotAccountLedger.release("9000");
+
+        Account merchant = accountRepository.findByAccountNumber("9000").orElseThrow();
+        assertThat(merchant.isHot()).isFalse();
+        assertThat(merchant.getBalance()).isEqualTo(Money.of(500));
+        assertThat(slotRepository.findByAccountId(merchant.getId())).isEmpty();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transferRepository.deleteAllInBatch();
+        slotRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+}
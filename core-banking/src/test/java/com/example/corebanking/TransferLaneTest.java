@@ -0,0 +1,113 @@
+package com.example.corebanking;
+
+import com.example.corebanking.common.exception.TransferBusyException;
+import com.example.corebanking.common.metrics.TransferMetrics;
+import com.example.corebanking.config.TransferProperties;
+import com.example.corebanking.transfer.service.TransferLane;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransferLaneTest {
+
+    private TransferLane newLane(int stripes, long timeoutMs) {
+        TransferProperties properties = new TransferProperties();
+        properties.getLane().setStripes(stripes);
+        properties.getLane().setTimeoutMs(timeoutMs);
+        return new TransferLane(properties, new TransferMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    @DisplayName("Transfers on the same account never run at the same time")
+    void same_account_is_serialized() throws InterruptedException {
+        TransferLane lane = newLane(16, 5000);
+        int threadCount = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+
+        for (int i = 0; i < threadCount; i++) {
+            long otherAccount = 100 + i;
+            executorService.submit(() -> {
+                try {
+                    lane.execute(List.of(1L, otherAccount), () -> {
+                        maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                        inside.decrementAndGet();
+                        return null;
+                    });
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+        assertThat(maxInside.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Opposite directions (A→B, B→A) do not deadlock on the lane")
+    void opposite_directions_do_not_deadlock() throws InterruptedException {
+        TransferLane lane = newLane(256, 5000);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        CountDownLatch latch = new CountDownLatch(200);
+
+        for (int i = 0; i < 100; i++) {
+            executorService.submit(() -> {
+                try {
+                    lane.execute(List.of(1L, 2L), () -> null);
+                } finally {
+                    latch.countDown();
+                }
+            });
+            executorService.submit(() -> {
+                try {
+                    lane.execute(List.of(2L, 1L), () -> null);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("A request that waits longer than the timeout is rejected")
+    void busy_lane_times_out() throws InterruptedException {
+        TransferLane lane = newLane(16, 50);
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread holder = new Thread(() -> lane.execute(List.of(1L), () -> {
+            holding.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        holder.start();
+        holding.await();
+
+        assertThatThrownBy(() -> lane.execute(List.of(1L), () -> null))
+                .isInstanceOf(TransferBusyException.class);
+
+        release.countDown();
+        holder.join();
+    }
+}
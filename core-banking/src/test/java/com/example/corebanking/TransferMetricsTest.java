@@ -0,0 +1,119 @@
+package com.example.corebanking;
+
+import com.example.corebanking.account.domain.Account;
+import com.example.corebanking.account.repository.AccountRepository;
+import com.example.corebanking.common.metrics.TransferPhase;
+import com.example.corebanking.common.money.Money;
+import com.example.corebanking.config.TransferProperties;
+import com.example.corebanking.transfer.dto.TransferRequest;
+import com.example.corebanking.transfer.repository.TransferRepository;
+import com.example.corebanking.transfer.service.TransferMode;
+import com.example.corebanking.transfer.service.TransferService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class TransferMetricsTest {
+
+    @Autowired private TransferService transferService;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private TransferRepository transferRepository;
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired private TransferProperties transferProperties;
+
+    @BeforeEach
+    void setUp() {
+        transferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid("metrics-sender")
+                .accountNumber("M-1111")
+                .balance(Money.of(10000))
+                .build());
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid("metrics-recipient")
+                .accountNumber("M-2222")
+                .balance(Money.ZERO)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        transferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("A completed transfer is counted as success and recorded in every phase timer of its strategy")
+    void success_recordsCounterAndPhases() {
+        double successBefore = successCount();
+        long[] phaseBefore = phaseCounts();
+
+        transferService.transfer("metrics-sender",
+                new TransferRequest("M-2222", Money.of(1000), UUID.randomUUID().toString()));
+
+        assertThat(successCount()).isEqualTo(successBefore + 1);
+        long[] phaseAfter = phaseCounts();
+        for (TransferPhase phase : TransferPhase.values()) {
+            // CONDITIONAL_UPDATE waits for the row lock inside its UPDATEs (mutation phase)
+            if (phase == TransferPhase.LOCK && transferProperties.getStrategy() == TransferMode.CONDITIONAL_UPDATE) {
+                continue;
+            }
+            assertThat(phaseAfter[phase.ordinal()])
+                    .as("phase %s", phase.tag())
+                    .isGreaterThan(phaseBefore[phase.ordinal()]);
+        }
+    }
+
+    @Test
+    @DisplayName("A failed transfer is counted with the exception type, and a replay is not counted as success")
+    void failure_isTaggedByExceptionType() {
+        double successBefore = successCount();
+        double insufficientBefore = failCount("IllegalStateException");
+
+        assertThatThrownBy(() -> transferService.transfer("metrics-sender",
+                new TransferRequest("M-2222", Money.of(20000), UUID.randomUUID().toString())))
+                .isInstanceOf(IllegalStateException.class);
+
+        String txId = UUID.randomUUID().toString();
+        transferService.transfer("metrics-sender", new TransferRequest("M-2222", Money.of(1000), txId));
+        transferService.transfer("metrics-sender", new TransferRequest("M-2222", Money.of(1000), txId));
+
+        assertThat(failCount("IllegalStateException")).isEqualTo(insufficientBefore + 1);
+        assertThat(successCount()).isEqualTo(successBefore + 1);
+    }
+
+    private double successCount() {
+        return meterRegistry.get("banking_transfer_total").tag("result", "success").counter().count();
+    }
+
+    private double failCount(String exception) {
+        Counter counter = meterRegistry.find("banking_transfer_total")
+                .tag("result", "fail")
+                .tag("exception", exception)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private long[] phaseCounts() {
+        long[] counts = new long[TransferPhase.values().length];
+        for (TransferPhase phase : TransferPhase.values()) {
+            Timer timer = meterRegistry.get("banking_transfer_phase").tag("phase", phase.tag()).timer();
+            counts[phase.ordinal()] = timer.count();
+        }
+        return counts;
+    }
+}
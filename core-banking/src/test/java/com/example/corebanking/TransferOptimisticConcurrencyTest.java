@@ -0,0 +1,97 @@
+package com.example.corebanking;
+
+import com.example.corebanking.account.domain.Account;
+import com.example.corebanking.account.repository.AccountRepository;
+import com.example.corebanking.common.money.Money;
+import com.example.corebanking.transfer.dto.TransferRequest;
+import com.example.corebanking.transfer.repository.TransferRepository;
+import com.example.corebanking.transfer.service.TransferService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Lane disabled so that concurrent requests really race on the version column
+@SpringBootTest(properties = {
+        "banking.transfer.strategy=OPTIMISTIC",
+        "banking.transfer.lane.enabled=false",
+        "banking.transfer.optimistic.max-attempts=100"
+})
+class TransferOptimisticConcurrencyTest {
+
+    @Autowired private TransferService transferService;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private TransferRepository transferRepository;
+
+    private final String SENDER_UUID = "optimistic-sender-uuid";
+    private final String RECIPIENT_UUID = "optimistic-recipient-uuid";
+
+    @BeforeEach
+    void setUp() {
+        transferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid(SENDER_UUID)
+                .accountNumber("1111")
+                .balance(Money.of(1000))
+                .build());
+
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid(RECIPIENT_UUID)
+                .accountNumber("2222")
+                .balance(Money.ZERO)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Optimistic mode: Conflicting transfers are retried and no update is lost.")
+    void transfer_optimistic_concurrency_test() throws InterruptedException {
+        int threadCount = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    transferService.transfer(
+                            SENDER_UUID,
+                            new TransferRequest("2222", Money.of(10), UUID.randomUUID().toString())
+                    );
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    System.err.println("Transfer failed.: " + e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+
+        Account sender = accountRepository.findByAccountNumber("1111").orElseThrow();
+        Account recipient = accountRepository.findByAccountNumber("2222").orElseThrow();
+
+        assertThat(successCount.get()).isEqualTo(threadCount);
+        assertThat(sender.getBalance()).isEqualByComparingTo(Money.of(500));
+        assertThat(recipient.getBalance()).isEqualByComparingTo(Money.of(500));
+        assertThat(transferRepository.count()).isEqualTo(threadCount);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.corebanking;
+
+import com.example.corebanking.account.domain.Account;
+import com.example.corebanking.account.repository.AccountRepository;
+import com.example.corebanking.common.metrics.TransferMetrics;
+import com.example.corebanking.common.money.Money;
+import com.example.corebanking.config.TransferProperties;
+import com.example.corebanking.transfer.domain.SubmissionFailureReason;
+import com.example.corebanking.transfer.domain.SubmissionStatus;
+import com.example.corebanking.transfer.dto.TransferRequest;
+import com.example.corebanking.transfer.dto.TransferSubmissionResponse;
+import com.example.corebanking.transfer.repository.TransferRepository;
+import com.example.corebanking.transfer.repository.TransferSubmissionRepository;
+import com.example.corebanking.transfer.service.TransferService;
+import com.example.corebanking.transfer.service.TransferSubmissionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+@SpringBootTest
+class TransferSubmissionTest {
+
+    @Autowired private TransferSubmissionService transferSubmissionService;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private TransferRepository transferRepository;
+    @Autowired private TransferSubmissionRepository submissionRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private TransferMetrics transferMetrics;
+
+    private final String SENDER_UUID = "submission-sender-uuid";
+
+    @BeforeEach
+    void setUp() {
+        transferRepository.deleteAllInBatch();
+        submissionRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid(SENDER_UUID)
+                .accountNumber("1111")
+                .balance(Money.of(5000))
+                .build());
+
+        accountRepository.saveAndFlush(Account.builder()
+                .userUuid("submission-recipient-uuid")
+                .accountNumber("2222")
+                .balance(Money.ZERO)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Async transfer: A submission is accepted as PENDING and completes in the background.")
+    void transfer_submission_completes() throws InterruptedException {
+        // given
+        String txId = UUID.randomUUID().toString();
+        TransferRequest request = new TransferRequest("2222", Money.of(1000), txId);
+
+        // when
+        TransferSubmissionResponse accepted = transferSubmissionService.submit(SENDER_UUID, request);
+        TransferSubmissionResponse completed = awaitFinished(txId);
+
+        // then
+        assertThat(accepted.status()).isEqualTo(SubmissionStatus.PENDING);
+        assertThat(completed.status()).isEqualTo(SubmissionStatus.COMPLETED);
+        assertThat(accountRepository.findByAccountNumber("1111").orElseThrow().getBalance())
+                .isEqualTo(Money.of(4000));
+
+        // A repeated submission reports the first one and moves no money
+        assertThat(transferSubmissionService.submit(SENDER_UUID, request).status())
+                .isEqualTo(SubmissionStatus.COMPLETED);
+        assertThat(transferRepository.count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Async transfer: A failing transfer is reported as FAILED with the reason.")
+    void transfer_submission_fails() throws InterruptedException {
+        // given: more than the balance
+        String txId = UUID.randomUUID().toString();
+
+        // when
+        transferSubmissionService.submit(SENDER_UUID, new TransferRequest("2222", Money.of(9000), txId));
+        TransferSubmissionResponse failed = awaitFinished(txId);
+
+        // then
+        assertThat(failed.status()).isEqualTo(SubmissionStatus.FAILED);
+        assertThat(failed.message()).isEqualTo(SubmissionFailureReason.INSUFFICIENT_BALANCE.name());
+        assertThat(transferRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Async transfer: Shutdown lets the running transfer finish and leaves queued ones PENDING.")
+    void shutdown_keeps_queued_submissions_pending() throws InterruptedException {
+        // given: one worker, busy with the first transfer while the second one waits in the queue
+        TransferService slowTransferService = mock(TransferService.class);
+        doAnswer(invocation -> {
+            Thread.sleep(300);
+            return "SUCCESS";
+        }).when(slowTransferService).transfer(eq(SENDER_UUID), any());
+        TransferSubmissionService service = singleWorkerService(slowTransferService);
+
+        String runningTxId = UUID.randomUUID().toString();
+        String queuedTxId = UUID.randomUUID().toString();
+        service.submit(SENDER_UUID, new TransferRequest("2222", Money.of(1000), runningTxId));
+        service.submit(SENDER_UUID, new TransferRequest("2222", Money.of(1000), queuedTxId));
+
+        // when
+        service.shutdown();
+
+        // then
+        assertThat(service.getSubmission(SENDER_UUID, runningTxId).status()).isEqualTo(SubmissionStatus.COMPLETED);
+        assertThat(service.getSubmission(SENDER_UUID, queuedTxId).status()).isEqualTo(SubmissionStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("Async transfer: An interrupted transfer stays PENDING instead of being marked FAILED.")
+    void interrupted_transfer_stays_pending() throws InterruptedException {
+        // given: the transfer is interrupted while waiting for its account lane
+        TransferService interruptedTransferService = mock(TransferService.class);
+        doThrow(new IllegalStateException("Transfer was interrupted while waiting for the account.", new InterruptedException()))
+                .when(interruptedTransferService).transfer(eq(SENDER_UUID), any());
+        TransferSubmissionService service = singleWorkerService(interruptedTransferService);
+        String txId = UUID.randomUUID().toString();
+
+        // when
+        service.submit(SENDER_UUID, new TransferRequest("2222", Money.of(1000), txId));
+        service.shutdown();
+
+        // then
+        assertThat(service.getSubmission(SENDER_UUID, txId).status()).isEqualTo(SubmissionStatus.PENDING);
+    }
+
+    private TransferSubmissionService singleWorkerService(TransferService transferService) {
+        TransferProperties properties = new TransferProperties();
+        properties.getAsync().setWorkers(1);
+        return new TransferSubmissionService(transferService, submissionRepository, transactionTemplate,
+                transferMetrics, properties, new SimpleMeterRegistry());
+    }
+
+    private TransferSubmissionResponse awaitFinished(String txId) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            TransferSubmissionResponse response = transferSubmissionService.getSubmission(SENDER_UUID, txId);
+            if (response.status() != SubmissionStatus.PENDING) {
+                return response;
+            }
+            Thread.sleep(100);
+        }
+        return transferSubmissionService.getSubmission(SENDER_UUID, txId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transferRepository.deleteAllInBatch();
+        submissionRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.corebanking;
+
+import com.example.corebanking.common.metrics.VirtualThreadPinningMonitor;
+import com.example.corebanking.config.ThreadingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConfigurationPropertiesAutoConfiguration.class))
+            .withUserConfiguration(ThreadingProperties.class, VirtualThreadPinningMonitor.class)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withPropertyValues("banking.threads.pinning.threshold=0ms");
+
+    @Test
+    @DisplayName("Pinning monitor: Not created while virtual threads are off.")
+    void absent_without_virtual_threads() {
+        contextRunner
+                .withPropertyValues("spring.threads.virtual.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean(VirtualThreadPinningMonitor.class));
+    }
+
+    @Test
+    @DisplayName("Pinning monitor: A virtual thread blocking inside synchronized is counted.")
+    void counts_pinned_virtual_thread() {
+        contextRunner
+                .withPropertyValues("spring.threads.virtual.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(VirtualThreadPinningMonitor.class);
+                    MeterRegistry registry = context.getBean(MeterRegistry.class);
+
+                    // JFR streams events in chunks: pin repeatedly until one is delivered
+                    for (int i = 0; i < 50 && pinned(registry) == 0; i++) {
+                        pinOnce();
+                    }
+
+                    assertThat(pinned(registry)).isPositive();
+                });
+    }
+
+    @Test
+    @DisplayName("Pinning monitor: banking.threads.pinning.enabled=false starts no recording.")
+    void disabled_by_property() {
+        contextRunner
+                .withPropertyValues("spring.threads.virtual.enabled=true", "banking.threads.pinning.enabled=false")
+                .run(context -> {
+                    MeterRegistry registry = context.getBean(MeterRegistry.class);
+
+                    // Longer than a JFR flush, so an enabled monitor would have reported by now
+                    for (int i = 0; i < 50; i++) {
+                        pinOnce();
+                    }
+
+                    assertThat(pinned(registry)).isZero();
+                });
+    }
+
+    private double pinned(MeterRegistry registry) {
+        return registry.get("banking_virtual_thread_pinned_total").counter().count();
+    }
+
+    private void pinOnce() throws InterruptedException {
+        Object monitor = new Object();
+        Thread.ofVirtual().start(() -> {
+            synchronized (monitor) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }).join();
+    }
+}